@@ -64,11 +64,7 @@ tasks {
     jmh {
         jmhVersion = "1.37"
 
-        warmupIterations = 3
-        warmup = "5s"
-        iterations = 3
-        timeOnIteration = "5s"
-        fork = 5
+        // Iterations and forks are declared on each benchmark class, since the startup benchmark must not warm up.
 
         jvmArgsAppend = listOf(
             "-Xms4g",
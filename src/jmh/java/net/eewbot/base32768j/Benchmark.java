@@ -9,9 +9,15 @@ import java.util.concurrent.TimeUnit;
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.Throughput)
 @OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(5)
 public class Benchmark {
-    private static final Base32768Encoder encoder = Base32768.getEncoder();
-    private static final Base32768Decoder decoder = Base32768.getDecoder();
+    private Base32768Encoder encoder;
+    private Base32768Decoder decoder;
+
+    @Param({"scalar", "compact", "parallel", "adaptive"})
+    public String engine;
 
     @Param({"32", "64", "128", "256", "512", "1024", "2048", "4096", "8192", "16384", "32768", "65536", "131072", "262144", "524288", "1048576", "2097152", "4194304", "8388608"})
     public int size;
@@ -28,6 +34,9 @@ public class Benchmark {
 
     @Setup(Level.Trial)
     public void setup() {
+        encoder = Base32768.getEncoder().withEngine(Base32768Engine.byName(engine));
+        decoder = Base32768.getDecoder().withEngine(Base32768Engine.byName(engine));
+
         int n = size;
         if ("FORCE_LAST7".equals(tailMode)) {
             int r = n % 15;
@@ -0,0 +1,32 @@
+package net.eewbot.base32768j;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to the first encode and the first decode in a fresh JVM, including class loading and building
+ * the lookup tables. Every fork runs exactly one benchmark method once, so nothing is initialized beforehand.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(30)
+public class StartupBenchmark {
+    // Base32768 text of the bytes 0x00 to 0x1f, written out so that decoding does not need the encoder
+    private static final String ENCODED = "Ҡ曠蛠盀庠䩨㱘Ⳏ┨ᗄ棂枱團蛄媖䉝㕏ʟ";
+
+    private final byte[] input = new byte[32];
+
+    @org.openjdk.jmh.annotations.Benchmark
+    public String firstEncode() {
+        return Base32768.getEncoder().encodeToString(input);
+    }
+
+    @org.openjdk.jmh.annotations.Benchmark
+    public byte[] firstDecode() {
+        return Base32768.getDecoder().decode(ENCODED);
+    }
+}
@@ -3,6 +3,7 @@ package net.eewbot.base32768j;
 import org.openjdk.jmh.infra.Blackhole;
 
 import java.io.IOException;
+import java.util.ServiceConfigurationError;
 
 /**
  * This class consists exclusively of static methods for obtaining encoders and decoders for the Base32768 encoding
@@ -11,8 +12,10 @@ import java.io.IOException;
  * <a href="https://github.com/qntm/base32768">original Base32768</a>
  */
 public class Base32768 {
-    private static final Base32768Encoder encoder = new Base32768Encoder();
-    private static final Base32768Decoder decoder = new Base32768Decoder();
+    private static final Base32768Engine engine = defaultEngine();
+    private static final Base32768Encoder encoder = new Base32768Encoder(engine);
+    private static final Base32768Decoder decoder = new Base32768Decoder(engine);
+    private static final Base64Transcoder base64Transcoder = new Base64Transcoder();
 
     /**
      * Returns a {@link Base32768Encoder}.
@@ -32,6 +35,43 @@ public class Base32768 {
         return decoder;
     }
 
+    /**
+     * Returns a {@link Base64Transcoder}.
+     *
+     * @return A transcoder between Base64 and base32768.
+     */
+    public static Base64Transcoder getBase64Transcoder() {
+        return base64Transcoder;
+    }
+
+    /**
+     * Returns a new {@link Base32768Cache} in front of the default encoder and decoder.
+     *
+     * @param maximumBytes the approximate upper bound of memory held by cached entries
+     * @return A base32768 cache.
+     * @throws IllegalArgumentException if maximumBytes is negative.
+     */
+    public static Base32768Cache newCache(long maximumBytes) {
+        return new Base32768Cache(encoder, decoder, maximumBytes);
+    }
+
+    /**
+     * Resolves the engine named by the system property. A wrong name or a broken provider must not leave this class
+     * unusable, so such failures fall back to the scalar engine with a warning.
+     */
+    private static Base32768Engine defaultEngine() {
+        final String name = System.getProperty(Base32768Engine.ENGINE_PROPERTY);
+        if (name == null) return Base32768Engine.scalar();
+
+        try {
+            return Base32768Engine.byName(name);
+        } catch (RuntimeException | ServiceConfigurationError e) {
+            System.getLogger(Base32768.class.getName()).log(System.Logger.Level.WARNING,
+                "Cannot use Base32768 engine \"" + name + "\" set by " + Base32768Engine.ENGINE_PROPERTY + ", falling back to the scalar engine", e);
+            return Base32768Engine.scalar();
+        }
+    }
+
     public static void main(String[] args) throws IOException {
         Blackhole blackhole = new Blackhole("Today's password is swordfish. I understand instantiating Blackholes directly is dangerous.");
         byte[] testData = new byte[10_000];
@@ -0,0 +1,43 @@
+package net.eewbot.base32768j;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The engine choosing the scalar or the parallel engine on each call.<br>
+ * The compact engine doesn't beat the scalar one beyond measurement noise at any size in the JMH suite, so it is only
+ * used when chosen explicitly. The parallel engine is chosen only if the input is large enough to give every worker of
+ * the common pool a few chunks, and the pool has more than one worker.<br>
+ * The crossover has not been measured on a multi-core machine yet, so this engine is opt-in rather than the default.
+ */
+final class Base32768AdaptiveEngine implements Base32768Engine {
+    static final String NAME = "adaptive";
+    static final Base32768AdaptiveEngine INSTANCE = new Base32768AdaptiveEngine();
+
+    private Base32768AdaptiveEngine() {}
+
+    // Number of groups (480 KiB of bytes, about 150 us of scalar work) from which waking the workers is expected to pay
+    // off; provisional until the Benchmark engine x size matrix is run on a multi-core machine
+    private static final int PARALLEL_MIN_GROUPS = 1 << 15;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void encodeGroups(byte[] src, int sp, char[] dst, int dp, int groups) {
+        select(groups).encodeGroups(src, sp, dst, dp, groups);
+    }
+
+    @Override
+    public void decodeGroups(String src, int sp, byte[] dst, int dp, int groups) {
+        select(groups).decodeGroups(src, sp, dst, dp, groups);
+    }
+
+    private static Base32768Engine select(int groups) {
+        if (groups >= PARALLEL_MIN_GROUPS && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            return Base32768ParallelEngine.INSTANCE;
+        }
+        return Base32768ScalarEngine.INSTANCE;
+    }
+}
@@ -0,0 +1,306 @@
+package net.eewbot.base32768j;
+
+import net.eewbot.base32768j.exception.IllegalBase32768TextException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class wraps a {@link Base32768Encoder} and a {@link Base32768Decoder} with a bounded cache of recent results,
+ * so that encoding the same bytes or decoding the same text again only costs a hash of the input and a comparison
+ * against the cached copy.<br>
+ * Entries are spread over a fixed number of independently locked segments by the hash of their input, and each
+ * segment evicts its least recently used entries once it exceeds its share of the byte budget. The weight of an entry
+ * is the size of its input plus the size of its result.<br>
+ * The hash is not keyed, so inputs colliding in one segment can be crafted. Such inputs still get their own entries,
+ * and a lookup among them costs a logarithmic number of comparisons, but they contend on the lock of that segment.<br>
+ * Instances of {@link Base32768Cache} class are safe for use by multiple concurrent threads.<br>
+ * Unless otherwise noted, passing a null argument to a method of this class will cause a {@link NullPointerException}
+ * to be thrown.
+ */
+public class Base32768Cache {
+    private static final VarHandle VH_LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    // Must be a power of two
+    private static final int SEGMENTS = 16;
+    // Approximate per-entry cost of the key, the map node and the array headers
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private final Base32768Encoder encoder;
+    private final Base32768Decoder decoder;
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache in front of the given encoder and decoder.
+     *
+     * @param encoder      the encoder computing results not in the cache
+     * @param decoder      the decoder computing results not in the cache
+     * @param maximumBytes the approximate upper bound of memory held by cached entries
+     * @throws IllegalArgumentException if maximumBytes is negative.
+     */
+    public Base32768Cache(Base32768Encoder encoder, Base32768Decoder decoder, long maximumBytes) {
+        if (maximumBytes < 0) throw new IllegalArgumentException("Negative maximum bytes: " + maximumBytes);
+
+        this.encoder = Objects.requireNonNull(encoder, "encoder");
+        this.decoder = Objects.requireNonNull(decoder, "decoder");
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(maximumBytes / SEGMENTS);
+        }
+    }
+
+    /**
+     * Encodes the specified byte array into a String like {@link Base32768Encoder#encodeToString(byte[])}, returning
+     * the cached result if the same bytes were encoded recently.
+     *
+     * @param src the byte array to encode
+     * @return A string containing the resulting Base32768 encoded characters.
+     */
+    public String encodeToString(byte[] src) {
+        final long hash = hash(src);
+        final Segment segment = segmentFor(hash);
+
+        final Object cached = segment.get(new BytesKey(hash, src));
+        if (cached != null) {
+            hits.increment();
+            return (String) cached;
+        }
+        misses.increment();
+
+        final String result = encoder.encodeToString(src);
+        // 呼び出し元が配列を書き換えてもキーが変わらないようにコピーを持つ
+        segment.put(new BytesKey(hash, src.clone()), result, src.length + result.length() * 2L);
+        return result;
+    }
+
+    /**
+     * Decodes a Base32768 encoded String like {@link Base32768Decoder#decode(String)}, returning a copy of the cached
+     * result if the same text was decoded recently. Texts failing to decode are never cached.
+     *
+     * @param src the string to decode
+     * @return A newly-allocated byte array containing the decoded bytes.
+     * @throws IllegalBase32768TextException if src is not in valid Base32768 scheme
+     */
+    public byte[] decode(String src) {
+        final long hash = mix(src.hashCode() ^ (long) src.length() << 32);
+        final Segment segment = segmentFor(hash);
+
+        final Object cached = segment.get(new StringKey(hash, src));
+        if (cached != null) {
+            hits.increment();
+            return ((byte[]) cached).clone();
+        }
+        misses.increment();
+
+        final byte[] result = decoder.decode(src);
+        segment.put(new StringKey(hash, src), result.clone(), src.length() * 2L + result.length);
+        return result;
+    }
+
+    /**
+     * Returns the number of lookups that returned a cached result.
+     *
+     * @return The number of cache hits.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to encode or decode the input.
+     *
+     * @return The number of cache misses.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries removed to keep the cache within its byte budget.
+     *
+     * @return The number of evicted entries.
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the approximate number of bytes currently held by cached entries.
+     *
+     * @return The total weight of cached entries.
+     */
+    public long weight() {
+        long weight = 0;
+        for (Segment segment : segments) {
+            weight += segment.weight();
+        }
+        return weight;
+    }
+
+    /**
+     * Removes all cached entries. The counters are left unchanged.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private Segment segmentFor(long hash) {
+        return segments[(int) (hash >>> 60) & (SEGMENTS - 1)];
+    }
+
+    /**
+     * Hashes the given bytes 8 at a time in the manner of MurmurHash3, over 4 independent lanes so that the multiplies
+     * of neighbouring words overlap.
+     */
+    static long hash(byte[] src) {
+        final int len = src.length;
+        long h0 = len * 0x9E3779B97F4A7C15L;
+        long h1 = ~h0;
+        long h2 = h0 ^ 0x52DCE729L;
+        long h3 = h1 ^ 0x38495AB5L;
+
+        int i = 0;
+        for (final int fastEnd = len - 31; i < fastEnd; i += 32) {
+            h0 = round(h0, (long) VH_LONG_LE.get(src, i));
+            h1 = round(h1, (long) VH_LONG_LE.get(src, i + 8));
+            h2 = round(h2, (long) VH_LONG_LE.get(src, i + 16));
+            h3 = round(h3, (long) VH_LONG_LE.get(src, i + 24));
+        }
+        long h = h0 ^ Long.rotateLeft(h1, 16) ^ Long.rotateLeft(h2, 32) ^ Long.rotateLeft(h3, 48);
+
+        for (final int fastEnd = len - 7; i < fastEnd; i += 8) {
+            h = round(h, (long) VH_LONG_LE.get(src, i));
+        }
+
+        long tail = 0;
+        for (int shift = 0; i < len; i++, shift += 8) {
+            tail |= (src[i] & 0xFFL) << shift;
+        }
+
+        return mix(round(h, tail));
+    }
+
+    private static long round(long h, long k) {
+        h ^= Long.rotateLeft(k * 0x87C37B91114253D5L, 31) * 0x4CF5AD432745937FL;
+        return Long.rotateLeft(h, 27) * 5 + 0x52DCE729;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    private final class Segment {
+        private final long capacity;
+        // アクセス順に並べ、先頭から追い出す
+        private final LinkedHashMap<Object, Entry> map = new LinkedHashMap<>(16, 0.75f, true);
+        private long weight;
+
+        Segment(long capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized Object get(Object key) {
+            final Entry entry = map.get(key);
+            return entry == null ? null : entry.value;
+        }
+
+        void put(Object key, Object value, long size) {
+            final long entryWeight = size + ENTRY_OVERHEAD;
+            // 予算を超える結果はほかの全エントリを追い出すだけなので持たない
+            if (entryWeight > capacity) return;
+
+            int evicted = 0;
+            synchronized (this) {
+                final Entry previous = map.put(key, new Entry(value, entryWeight));
+                weight += entryWeight - (previous == null ? 0 : previous.weight);
+
+                final Iterator<Entry> it = map.values().iterator();
+                while (weight > capacity) {
+                    weight -= it.next().weight;
+                    it.remove();
+                    evicted++;
+                }
+            }
+            if (evicted > 0) evictions.add(evicted);
+        }
+
+        synchronized long weight() {
+            return weight;
+        }
+
+        synchronized void clear() {
+            map.clear();
+            weight = 0;
+        }
+    }
+
+    private record Entry(Object value, long weight) {}
+
+    // Comparableにしておくと、衝突したキーが多いバケットはHashMapが木に変える
+    private static final class BytesKey implements Comparable<BytesKey> {
+        private final long hash;
+        private final byte[] bytes;
+
+        BytesKey(long hash, byte[] bytes) {
+            this.hash = hash;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof BytesKey other && hash == other.hash && Arrays.equals(bytes, other.bytes);
+        }
+
+        @Override
+        public int compareTo(BytesKey other) {
+            final int c = Long.compare(hash, other.hash);
+            return c != 0 ? c : Arrays.compare(bytes, other.bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) hash;
+        }
+    }
+
+    private static final class StringKey implements Comparable<StringKey> {
+        private final long hash;
+        private final String text;
+
+        StringKey(long hash, String text) {
+            this.hash = hash;
+            this.text = text;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof StringKey other && hash == other.hash && text.equals(other.text);
+        }
+
+        @Override
+        public int compareTo(StringKey other) {
+            final int c = Long.compare(hash, other.hash);
+            return c != 0 ? c : text.compareTo(other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) hash;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package net.eewbot.base32768j;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * The engine looking up characters by 32-character blocks. Every Base32768 range starts and ends on a block boundary,
+ * so a 15-bit value maps to the start of its block plus the low 5 bits, and vice versa. This keeps the tables read per
+ * group at 6 KiB in total. The codec still builds and uses its full-size tables for the trailing partial group, the
+ * last character and the other entry points, so this engine doesn't reduce memory use or startup work.
+ */
+final class Base32768CompactEngine implements Base32768Engine {
+    static final String NAME = "compact";
+    static final Base32768CompactEngine INSTANCE = new Base32768CompactEngine();
+
+    private Base32768CompactEngine() {}
+
+    private static final char INVALID = 0xFFFF;
+    private static final char FLAG7 = 0x8000;
+
+    private static final VarHandle VH_LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    // 15ビット値の上位10ビット -> ブロック先頭のコードポイント
+    private static final char[] BLOCK_START = new char[1 << 10];
+    // コードポイントの上位11ビット -> ブロック先頭の値 (無効なら INVALID)
+    private static final char[] BLOCK_VALUE = new char[1 << 11];
+
+    static {
+        Arrays.fill(BLOCK_VALUE, INVALID);
+
+        int idx = 0;
+        for (int[] range : Base32768Scheme.CODES_7_RANGES) {
+            for (int cp = range[0]; cp <= range[1]; cp += 32) {
+                BLOCK_VALUE[cp >> 5] = (char) (FLAG7 | idx);
+                idx += 32;
+            }
+        }
+
+        idx = 0;
+        for (int[] range : Base32768Scheme.CODES_15_RANGES) {
+            for (int cp = range[0]; cp <= range[1]; cp += 32) {
+                BLOCK_START[idx >> 5] = (char) cp;
+                BLOCK_VALUE[cp >> 5] = (char) idx;
+                idx += 32;
+            }
+        }
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void encodeGroups(byte[] src, int sp, char[] dst, int dp, int groups) {
+        int i = sp;
+        int oi = dp;
+        final int end = sp + groups * 15;
+        while (i < end) {
+            long hi = (long) VH_LONG_BE.get(src, i);
+            long lo = (long) VH_LONG_BE.get(src, i + 7);
+
+            dst[oi] = toChar((int) (hi >>> 49));
+            dst[oi + 1] = toChar((int) (hi >>> 34) & 0x7FFF);
+            dst[oi + 2] = toChar((int) (hi >>> 19) & 0x7FFF);
+            dst[oi + 3] = toChar((int) (hi >>> 4) & 0x7FFF);
+            dst[oi + 4] = toChar((int) (((hi & 0xFL) << 11) | ((lo >>> 45) & 0x7FFL)));
+            dst[oi + 5] = toChar((int) (lo >>> 30) & 0x7FFF);
+            dst[oi + 6] = toChar((int) (lo >>> 15) & 0x7FFF);
+            dst[oi + 7] = toChar((int) lo & 0x7FFF);
+
+            i += 15;
+            oi += 8;
+        }
+    }
+
+    @Override
+    public void decodeGroups(String src, int sp, byte[] dst, int dp, int groups) {
+        int si = sp;
+        int oi = dp;
+        final int end = sp + groups * 8;
+        while (si < end) {
+            int v0 = toValue(src.charAt(si));
+            int v1 = toValue(src.charAt(si + 1));
+            int v2 = toValue(src.charAt(si + 2));
+            int v3 = toValue(src.charAt(si + 3));
+            int v4 = toValue(src.charAt(si + 4));
+            int v5 = toValue(src.charAt(si + 5));
+            int v6 = toValue(src.charAt(si + 6));
+            int v7 = toValue(src.charAt(si + 7));
+
+            int m = v0 | v1 | v2 | v3 | v4 | v5 | v6 | v7;
+            if ((m & 0x8000) != 0) {
+                Base32768Decoder.throwDetailedException(src, si, v0, v1, v2, v3, v4, v5, v6, v7);
+            }
+
+            Base32768Decoder.writeGroup(dst, oi, v0, v1, v2, v3, v4, v5, v6, v7);
+
+            si += 8;
+            oi += 15;
+        }
+    }
+
+    private static char toChar(int value) {
+        return (char) (BLOCK_START[value >>> 5] + (value & 31));
+    }
+
+    private static int toValue(char ch) {
+        // INVALID は下位5ビットを足しても INVALID のまま
+        return BLOCK_VALUE[ch >>> 5] | (ch & 31);
+    }
+}
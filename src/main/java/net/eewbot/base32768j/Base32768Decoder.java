@@ -1,63 +1,91 @@
 package net.eewbot.base32768j;
 
 import net.eewbot.base32768j.exception.BufferTooSmallException;
+import net.eewbot.base32768j.exception.ChecksumMismatchException;
 import net.eewbot.base32768j.exception.IllegalBase32768TextException;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.CRC32C;
 
 public class Base32768Decoder {
-    Base32768Decoder() {}
+    private final boolean checksum;
+    private final Base32768Engine engine;
+
+    Base32768Decoder(Base32768Engine engine) {
+        this(false, engine);
+    }
+
+    private Base32768Decoder(boolean checksum, Base32768Engine engine) {
+        this.checksum = checksum;
+        this.engine = engine;
+    }
 
     private static final char INVALID = 0xFFFF;
     private static final char FLAG7 = 0x8000;
 
-    private static final int TABLE_SIZE = 0xa840 + 32; // 43104 (max CODES_15 codepoint + 32)
-    private static final char[] DECODE = new char[TABLE_SIZE];
-    private static final int LAST_BITS_SIZE = (0xa840 >> 5) + 1; // 1347
-    private static final byte[] LAST_BITS = new byte[LAST_BITS_SIZE];
-
     private static final VarHandle VH_LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle VH_SHORT_BE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle VH_SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle VH_INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
 
-    static {
-        Arrays.fill(DECODE, INVALID);
-
-        // Build reverse lookup tables from Unicode ranges
-        int idx = 0;
+    private static final int CHECKSUM_BYTES = Base32768Scheme.CHECKSUM_BYTES;
+    private static final int CHECKSUM_CHUNK_GROUPS = Base32768Scheme.CHECKSUM_CHUNK_GROUPS;
 
-        // 7-bit blocks (valid only at end of input)
-        for (int[] range : Base32768Encoder.CODES_7_RANGES) {
-            for (int cp = range[0]; cp <= range[1]; cp++) {
-                DECODE[cp] = (char) (FLAG7 | idx);
-                LAST_BITS[cp >> 5] = 7;
-                idx++;
+    /**
+     * Lookup tables are held here so that they are built on the first decode rather than when the decoder is loaded.
+     */
+    private static final class Tables {
+        // 全てのUTF-16コード単位を引けるようにし、範囲外の文字もINVALIDとして扱う
+        private static final int TABLE_SIZE = 0x10000;
+        private static final char[] DECODE = new char[TABLE_SIZE];
+        private static final int LAST_BITS_SIZE = (0xa840 >> 5) + 1; // 1347
+        private static final byte[] LAST_BITS = new byte[LAST_BITS_SIZE];
+
+        static {
+            Arrays.fill(DECODE, INVALID);
+
+            // Build reverse lookup tables from Unicode ranges
+            int idx = 0;
+
+            // 7-bit blocks (valid only at end of input)
+            for (int[] range : Base32768Scheme.CODES_7_RANGES) {
+                for (int cp = range[0]; cp <= range[1]; cp++) {
+                    DECODE[cp] = (char) (FLAG7 | idx);
+                    LAST_BITS[cp >> 5] = 7;
+                    idx++;
+                }
             }
-        }
 
-        // 15-bit blocks (valid anywhere)
-        idx = 0;
-        for (int[] range : Base32768Encoder.CODES_15_RANGES) {
-            for (int cp = range[0]; cp <= range[1]; cp++) {
-                DECODE[cp] = (char) idx;
-                LAST_BITS[cp >> 5] = 15;
-                idx++;
+            // 15-bit blocks (valid anywhere)
+            idx = 0;
+            for (int[] range : Base32768Scheme.CODES_15_RANGES) {
+                for (int cp = range[0]; cp <= range[1]; cp++) {
+                    DECODE[cp] = (char) idx;
+                    LAST_BITS[cp >> 5] = 15;
+                    idx++;
+                }
             }
         }
     }
 
-    private static int calcBufferLength(String src) {
-        if (src.isEmpty()) return 0;
+    private int calcBufferLength(CharSequence src) {
+        if (src.length() == 0) return 0;
         final int n = src.length();
-        final char last = src.charAt(n - 1);
-        final int block = last >> 5;
-        final int lastBits = (block < LAST_BITS_SIZE) ? (LAST_BITS[block] & 0xFF) : 0;
-        if (lastBits == 0) throw new IllegalBase32768TextException(n - 1, last);
-        return ((n - 1) * 15 + lastBits) >>> 3;
+        final int length = ((n - 1) * 15 + lastBits(src)) >>> 3;
+        return checksum ? Math.max(length - CHECKSUM_BYTES, 0) : length;
     }
 
     /**
@@ -123,26 +151,357 @@ public class Base32768Decoder {
      * @throws IllegalBase32768TextException if src is not in valid Base32768 scheme
      */
     public byte[] decode(String src) {
+        if (checksum) return decodeWithChecksum(src);
+
         final int n = src.length();
         if (n == 0) return new byte[0];
 
+        final int lastBits = lastBits(src);
+        final int outLen = ((n - 1) * 15 + lastBits) >>> 3;
+        final byte[] out = new byte[outLen];
+
+        // ---- Fast Path: 8文字(=120bit) -> 15バイト固定出力 ----
+        // end までのうち、8文字単位で回す（last は含めない）
+        final int groups = (n - 1) >>> 3;
+        engine.decodeGroups(src, 0, out, 0, groups);
+
+        decodeTail(src, groups * 8, lastBits, out, groups * 15);
+
+        return out;
+    }
+
+    /**
+     * Decodes all UTF-16 code units in the given byte order from the input byte array using the {@link Base32768}
+     * encoding scheme, writing the results into a newly-allocated output byte array. The returned byte array is of the
+     * length of the resulting bytes.
+     *
+     * @param src   the byte array of UTF-16 code units to decode
+     * @param order the byte order of the code units
+     * @return A newly-allocated byte array containing the decoded bytes.
+     * @throws IllegalBase32768TextException if src is not in valid Base32768 scheme.
+     */
+    public byte[] decodeUtf16(byte[] src, ByteOrder order) {
+        final CharBuffer view = utf16View(src, order);
+        if (checksum) {
+            final byte[] out = new byte[checksumPayloadLength(view)];
+            decodeWithChecksum(view, src, order == ByteOrder.BIG_ENDIAN, out, out.length);
+            return out;
+        }
+        if (view.length() == 0) return new byte[0];
+
+        final byte[] out = new byte[calcBufferLength(view)];
+        decodeUtf16(src, view, out, order == ByteOrder.BIG_ENDIAN);
+        return out;
+    }
+
+    /**
+     * Decodes all UTF-16 code units in the given byte order from the input byte array using the {@link Base32768}
+     * encoding scheme, writing the results into the given output byte array, starting at offset 0.<br>
+     * It is the responsibility of the invoker of this method to make sure the output byte array dst has enough space
+     * for decoding all bytes from the input byte array. No bytes will be written to the output byte array if the output
+     * byte array is not big enough.
+     *
+     * @param src   the byte array of UTF-16 code units to decode
+     * @param dst   the output byte array
+     * @param order the byte order of the code units
+     * @return The number of bytes written to the output byte array
+     * @throws IllegalBase32768TextException if src is not in valid Base32768 scheme.
+     * @throws BufferTooSmallException       if dst does not have enough space for decoding all input bytes.
+     */
+    public int decodeUtf16(byte[] src, byte[] dst, ByteOrder order) {
+        final CharBuffer view = utf16View(src, order);
+        final int bufferLength = checksum ? checksumPayloadLength(view) : calcBufferLength(view);
+
+        if (dst.length < bufferLength) throw new BufferTooSmallException(bufferLength, dst.length);
+
+        if (checksum) {
+            decodeWithChecksum(view, src, order == ByteOrder.BIG_ENDIAN, dst, bufferLength);
+        } else if (bufferLength > 0) {
+            decodeUtf16(src, view, dst, order == ByteOrder.BIG_ENDIAN);
+        }
+
+        return bufferLength;
+    }
+
+    private static CharBuffer utf16View(byte[] src, ByteOrder order) {
+        Objects.requireNonNull(order, "order");
+        if ((src.length & 1) != 0) {
+            throw new IllegalBase32768TextException("UTF-16 input must have an even number of bytes, but got " + src.length);
+        }
+        return ByteBuffer.wrap(src).order(order).asCharBuffer();
+    }
+
+    private static void decodeUtf16(byte[] src, CharSequence view, byte[] out, boolean bigEndian) {
+        final int n = view.length();
+        final int lastBits = lastBits(view);
+
+        final int groups = (n - 1) >>> 3;
+        decodeGroupsUtf16(src, view, 0, out, 0, groups, bigEndian);
+
+        decodeTail(view, groups * 8, lastBits, out, groups * 15);
+    }
+
+    /**
+     * Decodes only the bytes in the range [fromByte, toByte) of the data encoded in src using the {@link Base32768}
+     * encoding scheme, writing the results into the given output byte array, starting at offset 0.<br>
+     * Every 8 characters of the text carry exactly 15 bytes, so only the characters covering the range are read. The
+     * final character and its padding are validated only if the range reaches the end of the data. When this decoder
+     * verifies checksums, the range is relative to the payload and the checksum itself is not verified.
+     *
+     * @param src      the Base32768 encoded text
+     * @param fromByte the index of the first decoded byte to write, inclusive
+     * @param toByte   the index of the last decoded byte to write, exclusive
+     * @param dst      the output byte array
+     * @return The number of bytes written to the output byte array
+     * @throws IndexOutOfBoundsException     if the range is out of bounds of the decoded data.
+     * @throws IllegalBase32768TextException if the characters covering the range are not in valid Base32768 scheme.
+     * @throws BufferTooSmallException       if dst does not have enough space for the range.
+     */
+    public int decodeRange(CharSequence src, long fromByte, long toByte, byte[] dst) {
+        return decodeRange(src, fromByte, toByte, dst, 0);
+    }
+
+    int decodeRange(CharSequence src, long fromByte, long toByte, byte[] dst, int offset) {
+        final int n = src.length();
+        final int lastBits = n == 0 ? 0 : lastBits(src);
+        final long totalLen = n == 0 ? 0 : ((n - 1) * 15L + lastBits) >>> 3;
+        Objects.checkFromToIndex(fromByte, toByte, payloadLength(totalLen));
+
+        final int count = (int) (toByte - fromByte);
+        if (dst.length - offset < count) throw new BufferTooSmallException(count, dst.length - offset);
+        if (count == 0) return 0;
+
+        final int groups = (n - 1) >>> 3;
+        final long groupBytes = groups * 15L;
+        final byte[] scratch = new byte[15];
+
+        long pos = fromByte;
+        int oi = offset;
+
+        // 先頭の境界ブロックは作業領域に展開してから必要な部分だけ写す
+        if (pos < groupBytes && pos % 15 != 0) {
+            final int g = (int) (pos / 15);
+            decodeGroups(src, g * 8, scratch, 0, 1);
+            final int skip = (int) (pos - g * 15L);
+            final int len = (int) Math.min(15 - skip, toByte - pos);
+            System.arraycopy(scratch, skip, dst, oi, len);
+            pos += len;
+            oi += len;
+        }
+
+        // 範囲に収まるブロックは直接書き込む
+        if (pos < groupBytes) {
+            final int whole = (int) ((Math.min(toByte, groupBytes) - pos) / 15);
+            decodeGroups(src, (int) (pos / 15) * 8, dst, oi, whole, engine);
+            pos += whole * 15L;
+            oi += whole * 15;
+        }
+
+        // 末尾の境界ブロック
+        if (pos < toByte && pos < groupBytes) {
+            decodeGroups(src, (int) (pos / 15) * 8, scratch, 0, 1);
+            final int len = (int) (toByte - pos);
+            System.arraycopy(scratch, 0, dst, oi, len);
+            pos += len;
+            oi += len;
+        }
+
+        // 最後の文字に掛かる場合のみ端数とパディングを検査する
+        if (pos < toByte) {
+            final byte[] tail = new byte[(int) (totalLen - groupBytes)];
+            decodeTail(src, groups * 8, lastBits, tail, 0);
+            System.arraycopy(tail, (int) (pos - groupBytes), dst, oi, (int) (toByte - pos));
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns a read-only {@link SeekableByteChannel} of the data encoded in src. Reads at any position decode only
+     * the characters covering the requested bytes, as {@link #decodeRange(CharSequence, long, long, byte[])} does.
+     *
+     * @param src the Base32768 encoded text
+     * @return A read-only channel of the decoded bytes.
+     * @throws IllegalBase32768TextException if the last character of src is not in valid Base32768 scheme.
+     */
+    public SeekableByteChannel newChannel(CharSequence src) {
+        final int n = src.length();
+        final long totalLen = n == 0 ? 0 : ((n - 1) * 15L + lastBits(src)) >>> 3;
+        return new Base32768DecodingChannel(this, src, payloadLength(totalLen));
+    }
+
+    /**
+     * Returns a read-only {@link SeekableByteChannel} of the data encoded in the given file, which stores Base32768
+     * text as UTF-16 code units in the given byte order. The file is memory-mapped, so only the pages covering the
+     * requested bytes are read.
+     *
+     * @param file  the file containing UTF-16 encoded Base32768 text
+     * @param order the byte order of the code units
+     * @return A read-only channel of the decoded bytes.
+     * @throws IOException                   if an I/O error occurs while mapping the file.
+     * @throws IllegalBase32768TextException if the file is not in valid UTF-16 Base32768 scheme.
+     */
+    public SeekableByteChannel newChannel(Path file, ByteOrder order) throws IOException {
+        final ByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if ((mapped.remaining() & 1) != 0) {
+            throw new IllegalBase32768TextException("UTF-16 input must have an even number of bytes, but got " + mapped.remaining());
+        }
+        return newChannel(mapped.order(Objects.requireNonNull(order, "order")).asCharBuffer());
+    }
+
+    private long payloadLength(long totalLen) {
+        return checksum ? Math.max(totalLen - CHECKSUM_BYTES, 0) : totalLen;
+    }
+
+    /**
+     * Returns a decoder instance that verifies and strips the CRC-32C checksum appended by an encoder obtained from
+     * {@link Base32768Encoder#withChecksum()}.<br>
+     * The checksum is updated block by block while decoding, and a {@link ChecksumMismatchException} is thrown if it
+     * does not match the trailing checksum.
+     *
+     * @return An equivalent decoder that verifies a checksum of the output.
+     */
+    public Base32768Decoder withChecksum() {
+        return checksum ? this : new Base32768Decoder(true, engine);
+    }
+
+    /**
+     * Returns a decoder instance that decodes 8-character groups with the given engine instead of the default one.<br>
+     * The decoded bytes don't depend on the engine.
+     *
+     * @param engine the engine to decode with
+     * @return An equivalent decoder that uses the given engine.
+     * @see Base32768Engine
+     */
+    public Base32768Decoder withEngine(Base32768Engine engine) {
+        return new Base32768Decoder(checksum, Objects.requireNonNull(engine, "engine"));
+    }
+
+    private byte[] decodeWithChecksum(CharSequence src) {
+        final byte[] out = new byte[checksumPayloadLength(src)];
+        decodeWithChecksum(src, null, false, out, out.length);
+        return out;
+    }
+
+    private static int checksumPayloadLength(CharSequence src) {
+        final int n = src.length();
+        if (n == 0) throw new IllegalBase32768TextException("Input is too short to contain a checksum");
+
+        final int totalLen = ((n - 1) * 15 + lastBits(src)) >>> 3;
+        if (totalLen < CHECKSUM_BYTES) {
+            throw new IllegalBase32768TextException("Input is too short to contain a checksum");
+        }
+        return totalLen - CHECKSUM_BYTES;
+    }
+
+    /**
+     * Decodes src into out[0, outLen) and verifies the trailing checksum. When utf16 is given, src is a view of it and
+     * the groups are read directly from its code units.
+     */
+    private void decodeWithChecksum(CharSequence src, byte[] utf16, boolean bigEndian, byte[] out, int outLen) {
+        final int lastBits = lastBits(src);
+        final int totalLen = outLen + CHECKSUM_BYTES;
+        final CRC32C crc = new CRC32C();
+
+        int si = 0;
+        int oi = 0;
+
+        // チェックサムはキャッシュに載っている間にブロック単位で更新する
+        int groups = outLen / 15;
+        while (groups > 0) {
+            final int g = Math.min(groups, CHECKSUM_CHUNK_GROUPS);
+            if (utf16 == null) {
+                decodeGroups(src, si, out, oi, g, engine);
+            } else {
+                decodeGroupsUtf16(utf16, src, si, out, oi, g, bigEndian);
+            }
+            crc.update(out, oi, g * 15);
+            si += g * 8;
+            oi += g * 15;
+            groups -= g;
+        }
+
+        // 残りバイトとチェックサムは小さなバッファに展開してから分離する
+        final byte[] tail = new byte[totalLen - oi];
+        decodeTail(src, si, lastBits, tail, 0);
+
+        final int rest = outLen - oi;
+        System.arraycopy(tail, 0, out, oi, rest);
+        crc.update(tail, 0, rest);
+
+        final int expected = (int) VH_INT_BE.get(tail, rest);
+        final int actual = (int) crc.getValue();
+        if (expected != actual) throw new ChecksumMismatchException(expected, actual);
+    }
+
+    static int lastBits(CharSequence src) {
+        final int n = src.length();
         final char last = src.charAt(n - 1);
         final int block = last >> 5;
-        final int lastBits = (block < LAST_BITS_SIZE) ? (LAST_BITS[block] & 0xFF) : 0;
+        final int lastBits = (block < Tables.LAST_BITS_SIZE) ? (Tables.LAST_BITS[block] & 0xFF) : 0;
         if (lastBits == 0) throw new IllegalBase32768TextException(n - 1, last);
+        return lastBits;
+    }
 
-        final int outLen = ((n - 1) * 15 + lastBits) >>> 3;
-        final byte[] out = new byte[outLen];
+    /**
+     * Decodes the given number of 8-character groups from src with the engine if src is a String, otherwise with the
+     * scalar implementation.
+     */
+    private static void decodeGroups(CharSequence src, int si, byte[] out, int oi, int groups, Base32768Engine engine) {
+        if (src instanceof String) {
+            engine.decodeGroups((String) src, si, out, oi, groups);
+        } else {
+            decodeGroups(src, si, out, oi, groups);
+        }
+    }
 
-        final char[] decode = DECODE;
+    /**
+     * Decodes the given number of 8-character groups from src into 15 bytes each.
+     */
+    static void decodeGroups(String src, int si, byte[] out, int oi, int groups) {
+        final char[] decode = Tables.DECODE;
 
-        int oi = 0;
-        int si = 0;
+        final int fastEnd = si + groups * 8;
+        while (si < fastEnd) {
+            int v0 = decode[src.charAt(si)];
+            int v1 = decode[src.charAt(si + 1)];
+            int v2 = decode[src.charAt(si + 2)];
+            int v3 = decode[src.charAt(si + 3)];
+            int v4 = decode[src.charAt(si + 4)];
+            int v5 = decode[src.charAt(si + 5)];
+            int v6 = decode[src.charAt(si + 6)];
+            int v7 = decode[src.charAt(si + 7)];
 
-        // ---- Fast Path: 8文字(=120bit) -> 15バイト固定出力 ----
-        // end までのうち、8文字単位で回す（last は含めない）
-        final int end = n - 1;
-        final int fastEnd = end & ~7;
+            int m = v0 | v1 | v2 | v3 | v4 | v5 | v6 | v7;
+            if ((m & 0x8000) != 0) {
+                throwDetailedException(src, si, v0, v1, v2, v3, v4, v5, v6, v7);
+            }
+
+            writeGroup(out, oi, v0, v1, v2, v3, v4, v5, v6, v7);
+
+            si += 8;
+            oi += 15;
+        }
+    }
+
+    /**
+     * Decodes the given number of 8-character groups from src into 15 bytes each.<br>
+     * Calling charAt through CharSequence keeps the JIT from optimizing the loop as well as for String, so strings are
+     * passed on to the specialized overload. The loop is duplicated there on purpose: C2 profiles charAt per bytecode,
+     * so a single loop shared by both overloads would make the String path slow again.
+     */
+    static void decodeGroups(CharSequence src, int si, byte[] out, int oi, int groups) {
+        if (src instanceof String) {
+            decodeGroups((String) src, si, out, oi, groups);
+            return;
+        }
+
+        final char[] decode = Tables.DECODE;
+
+        final int fastEnd = si + groups * 8;
         while (si < fastEnd) {
             int v0 = decode[src.charAt(si)];
             int v1 = decode[src.charAt(si + 1)];
@@ -158,28 +517,77 @@ public class Base32768Decoder {
                 throwDetailedException(src, si, v0, v1, v2, v3, v4, v5, v6, v7);
             }
 
-            // w0: v0, v1, v2, v3, v4上位4ビット
-            long w0 = ((long) v0 << 49)
-                | ((long) v1 << 34)
-                | ((long) v2 << 19)
-                | ((long) v3 << 4)
-                | (v4 >>> 11);
-
-            // w1: out[7]と同じバイトから始める
-            // out[7] = w0 & 0xFF なので、それを最上位に
-            // 残りは v4(下位11), v5, v6, v7 を詰める
-            long w1 = ((w0 & 0xFF) << 56)
-                | ((long) (v4 & 0x7FF) << 45)
-                | ((long) v5 << 30)
-                | ((long) v6 << 15)
-                | (long) v7;
-
-            VH_LONG_BE.set(out, oi, w0);
-            VH_LONG_BE.set(out, oi + 7, w1);
+            writeGroup(out, oi, v0, v1, v2, v3, v4, v5, v6, v7);
 
             si += 8;
             oi += 15;
         }
+    }
+
+    /**
+     * Decodes the given number of 8-code-unit groups from UTF-16 encoded src, starting at code unit ci, into 15 bytes
+     * each.
+     */
+    private static void decodeGroupsUtf16(byte[] src, CharSequence view, int ci, byte[] out, int oi, int groups, boolean bigEndian) {
+        final char[] decode = Tables.DECODE;
+
+        int si = ci << 1;
+        final int fastEnd = si + groups * 16;
+        while (si < fastEnd) {
+            int v0 = decode[getChar(src, si, bigEndian)];
+            int v1 = decode[getChar(src, si + 2, bigEndian)];
+            int v2 = decode[getChar(src, si + 4, bigEndian)];
+            int v3 = decode[getChar(src, si + 6, bigEndian)];
+            int v4 = decode[getChar(src, si + 8, bigEndian)];
+            int v5 = decode[getChar(src, si + 10, bigEndian)];
+            int v6 = decode[getChar(src, si + 12, bigEndian)];
+            int v7 = decode[getChar(src, si + 14, bigEndian)];
+
+            int m = v0 | v1 | v2 | v3 | v4 | v5 | v6 | v7;
+            if ((m & 0x8000) != 0) {
+                throwDetailedException(view, si >>> 1, v0, v1, v2, v3, v4, v5, v6, v7);
+            }
+
+            writeGroup(out, oi, v0, v1, v2, v3, v4, v5, v6, v7);
+
+            si += 16;
+            oi += 15;
+        }
+    }
+
+    private static char getChar(byte[] src, int index, boolean bigEndian) {
+        return bigEndian ? (char) (short) VH_SHORT_BE.get(src, index) : (char) (short) VH_SHORT_LE.get(src, index);
+    }
+
+    static void writeGroup(byte[] out, int oi, int v0, int v1, int v2, int v3, int v4, int v5, int v6, int v7) {
+        // w0: v0, v1, v2, v3, v4上位4ビット
+        long w0 = ((long) v0 << 49)
+            | ((long) v1 << 34)
+            | ((long) v2 << 19)
+            | ((long) v3 << 4)
+            | (v4 >>> 11);
+
+        // w1: out[7]と同じバイトから始める
+        // out[7] = w0 & 0xFF なので、それを最上位に
+        // 残りは v4(下位11), v5, v6, v7 を詰める
+        long w1 = ((w0 & 0xFF) << 56)
+            | ((long) (v4 & 0x7FF) << 45)
+            | ((long) v5 << 30)
+            | ((long) v6 << 15)
+            | (long) v7;
+
+        VH_LONG_BE.set(out, oi, w0);
+        VH_LONG_BE.set(out, oi + 7, w1);
+    }
+
+    /**
+     * Decodes src from si to the end bit by bit, including the final character and its padding.
+     */
+    static void decodeTail(CharSequence src, int si, int lastBits, byte[] out, int oi) {
+        final char[] decode = Tables.DECODE;
+        final int n = src.length();
+        final int end = n - 1;
+        final char last = src.charAt(end);
 
         long acc = 0L;
         int bitCount = 0;
@@ -251,8 +659,6 @@ public class Base32768Decoder {
             long actual = acc & ((1L << bitCount) - 1);
             throw new IllegalBase32768TextException("Bad padding at position " + (n - 1) + ": expected " + bitCount + " bits of 1s, got 0b" + Long.toBinaryString(actual));
         }
-
-        return out;
     }
 
     public InputStream wrap(InputStream is) {
@@ -267,7 +673,7 @@ public class Base32768Decoder {
         }
     }
 
-    private static void throwDetailedException(String src, int si, int v0, int v1, int v2, int v3, int v4, int v5, int v6, int v7) {
+    static void throwDetailedException(CharSequence src, int si, int v0, int v1, int v2, int v3, int v4, int v5, int v6, int v7) {
         int[] vals = {v0, v1, v2, v3, v4, v5, v6, v7};
         for (int i = 0; i < 8; i++) {
             if ((vals[i] & 0x8000) != 0) {
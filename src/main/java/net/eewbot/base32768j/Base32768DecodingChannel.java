@@ -0,0 +1,95 @@
+package net.eewbot.base32768j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * A read-only {@link SeekableByteChannel} that decodes the requested bytes of Base32768 text on each read.
+ */
+final class Base32768DecodingChannel implements SeekableByteChannel {
+    // Upper bound of bytes decoded per read into a direct buffer
+    private static final int SCRATCH_SIZE = 15 * 1024;
+
+    private final Base32768Decoder decoder;
+    private final CharSequence src;
+    private final long size;
+
+    private long position;
+    private boolean open = true;
+
+    Base32768DecodingChannel(Base32768Decoder decoder, CharSequence src, long size) {
+        this.decoder = decoder;
+        this.src = src;
+        this.size = size;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        ensureOpen();
+        if (position >= size) return -1;
+
+        final int n = (int) Math.min(dst.remaining(), size - position);
+        if (dst.hasArray()) {
+            decoder.decodeRange(src, position, position + n, dst.array(), dst.arrayOffset() + dst.position());
+            dst.position(dst.position() + n);
+        } else {
+            final byte[] scratch = new byte[Math.min(n, SCRATCH_SIZE)];
+            for (int done = 0; done < n; ) {
+                final int len = Math.min(n - done, scratch.length);
+                decoder.decodeRange(src, position + done, position + done + len, scratch, 0);
+                dst.put(scratch, 0, len);
+                done += len;
+            }
+        }
+
+        position += n;
+        return n;
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long position() throws IOException {
+        ensureOpen();
+        return position;
+    }
+
+    @Override
+    public SeekableByteChannel position(long newPosition) throws IOException {
+        if (newPosition < 0) throw new IllegalArgumentException("Negative position: " + newPosition);
+        ensureOpen();
+        position = newPosition;
+        return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+        ensureOpen();
+        return size;
+    }
+
+    @Override
+    public SeekableByteChannel truncate(long size) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        open = false;
+    }
+
+    private void ensureOpen() throws ClosedChannelException {
+        if (!open) throw new ClosedChannelException();
+    }
+}
@@ -8,6 +8,8 @@ import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.zip.CRC32C;
 
 /**
  * This class implements an encoder for encoding byte data using the Base32768 encoding scheme follows the
@@ -17,50 +19,48 @@ import java.nio.charset.StandardCharsets;
  * to be thrown.
  */
 public class Base32768Encoder {
-    Base32768Encoder() {}
-
-    // Unicode ranges for 7-bit encoding (128 total characters, 4 blocks of 32)
-    static final int[][] CODES_7_RANGES = {
-        {0x0180, 0x019f},
-        {0x0240, 0x029f}
-    };
-
-    // Unicode ranges for 15-bit encoding (32768 total characters, 1024 blocks of 32)
-    static final int[][] CODES_15_RANGES = {
-        {0x04a0, 0x04bf}, {0x0500, 0x051f}, {0x0680, 0x06bf}, {0x0760, 0x079f},
-        {0x07c0, 0x07df}, {0x1000, 0x101f}, {0x10a0, 0x10bf}, {0x1100, 0x115f},
-        {0x1180, 0x119f}, {0x11e0, 0x123f}, {0x1260, 0x127f}, {0x12e0, 0x12ff},
-        {0x1320, 0x133f}, {0x13a0, 0x13df}, {0x1420, 0x165f}, {0x16a0, 0x16df},
-        {0x1780, 0x179f}, {0x1820, 0x185f}, {0x18c0, 0x18df}, {0x1980, 0x199f},
-        {0x19e0, 0x19ff}, {0x1a20, 0x1a3f}, {0x1bc0, 0x1bdf}, {0x1c00, 0x1c1f},
-        {0x1d00, 0x1d1f}, {0x21e0, 0x21ff}, {0x22c0, 0x22df}, {0x2340, 0x23df},
-        {0x2400, 0x241f}, {0x2500, 0x275f}, {0x2780, 0x27bf}, {0x2800, 0x297f},
-        {0x29a0, 0x29bf}, {0x2a20, 0x2a5f}, {0x2a80, 0x2abf}, {0x2ae0, 0x2b5f},
-        {0x2c00, 0x2c1f}, {0x2c80, 0x2cdf}, {0x2d00, 0x2d1f}, {0x2d40, 0x2d5f},
-        {0x2ea0, 0x2edf}, {0x31c0, 0x31df}, {0x3400, 0x4d9f}, {0x4dc0, 0x9fbf},
-        {0xa000, 0xa47f}, {0xa4a0, 0xa4bf}, {0xa500, 0xa5ff}, {0xa640, 0xa65f},
-        {0xa6a0, 0xa6df}, {0xa700, 0xa75f}, {0xa780, 0xa79f}, {0xa840, 0xa85f}
-    };
+    private final boolean checksum;
+    private final Base32768Engine engine;
+
+    Base32768Encoder(Base32768Engine engine) {
+        this(false, engine);
+    }
+
+    private Base32768Encoder(boolean checksum, Base32768Engine engine) {
+        this.checksum = checksum;
+        this.engine = engine;
+    }
 
     private static final VarHandle VH_LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle VH_SHORT_BE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle VH_SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle VH_INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
 
-    private static final char[] CODES15_CHAR = new char[1 << 15];
-    private static final char[] CODES7_CHAR = new char[1 << 7];
+    private static final int CHECKSUM_BYTES = Base32768Scheme.CHECKSUM_BYTES;
+    private static final int CHECKSUM_CHUNK_GROUPS = Base32768Scheme.CHECKSUM_CHUNK_GROUPS;
 
-    static {
-        // Build CODES15_CHAR lookup table from Unicode ranges
-        int idx = 0;
-        for (int[] range : CODES_15_RANGES) {
-            for (int cp = range[0]; cp <= range[1]; cp++) {
-                CODES15_CHAR[idx++] = (char) cp;
+    /**
+     * Lookup tables are held here so that they are built on the first encode rather than when the encoder is loaded.
+     */
+    private static final class Tables {
+        private static final char[] CODES15_CHAR = new char[1 << 15];
+        private static final char[] CODES7_CHAR = new char[1 << 7];
+
+        static {
+            // Build CODES15_CHAR lookup table from Unicode ranges
+            int idx = 0;
+            for (int[] range : Base32768Scheme.CODES_15_RANGES) {
+                for (int cp = range[0]; cp <= range[1]; cp++) {
+                    CODES15_CHAR[idx++] = (char) cp;
+                }
             }
-        }
 
-        // Build CODES7_CHAR lookup table from Unicode ranges
-        idx = 0;
-        for (int[] range : CODES_7_RANGES) {
-            for (int cp = range[0]; cp <= range[1]; cp++) {
-                CODES7_CHAR[idx++] = (char) cp;
+            // Build CODES7_CHAR lookup table from Unicode ranges
+            idx = 0;
+            for (int[] range : Base32768Scheme.CODES_7_RANGES) {
+                for (int cp = range[0]; cp <= range[1]; cp++) {
+                    CODES7_CHAR[idx++] = (char) cp;
+                }
             }
         }
     }
@@ -117,20 +117,173 @@ public class Base32768Encoder {
      * @return A string containing the resulting Base32768 encoded characters.
      */
     public String encodeToString(byte[] src) {
+        if (checksum) return new String(encodeWithChecksum(src));
         if (src.length == 0) return "";
 
-        final char[] lut15 = CODES15_CHAR;
-        final char[] lut7 = CODES7_CHAR;
-
         final int srcLen = src.length;
-        final int outLen = (int) (((srcLen * 8L) + 14L) / 15);
-        final char[] out = new char[outLen];
-        int oi = 0;
-        int i = 0;
+        final char[] out = new char[(int) (((srcLen * 8L) + 14L) / 15)];
 
         // Fast Path: 15バイト -> 8文字
-        final int fastLimit = srcLen - 14;
-        while (i < fastLimit) {
+        final int groups = srcLen / 15;
+        engine.encodeGroups(src, 0, out, 0, groups);
+
+        encodeTail(src, groups * 15, srcLen, out, groups * 8);
+
+        return new String(out);
+    }
+
+    /**
+     * Encodes all bytes from the specified byte array into a newly-allocated byte array of UTF-16 code units in the
+     * given byte order using the {@link Base32768} encoding scheme. Every Base32768 character lies in the Basic
+     * Multilingual Plane, so the returned byte array is always exactly twice as long as the encoded text.
+     *
+     * @param src   the byte array to encode
+     * @param order the byte order of the resulting code units
+     * @return A newly-allocated byte array containing the resulting UTF-16 encoded bytes.
+     * @throws IllegalArgumentException if the encoded bytes would not fit in a byte array.
+     */
+    public byte[] encodeToUtf16(byte[] src, ByteOrder order) {
+        final byte[] dst = new byte[utf16Length(src.length)];
+        encodeToUtf16(src, dst, order);
+        return dst;
+    }
+
+    /**
+     * Encodes all bytes from the specified byte array using the {@link Base32768} encoding scheme, writing the
+     * resulting UTF-16 code units in the given byte order to the given output byte array, starting at offset 0.<br>
+     * It is the responsibility of the invoker of this method to make sure the output byte array dst has enough space
+     * for encoding all bytes from the input byte array. No bytes will be written to the output byte array if the output
+     * byte array is not big enough.
+     *
+     * @param src   the byte array to encode
+     * @param dst   the output byte array
+     * @param order the byte order of the resulting code units
+     * @return The number of bytes written to the output byte array
+     * @throws BufferTooSmallException  if dst does not have enough space for encoding all input bytes.
+     * @throws IllegalArgumentException if the encoded bytes would not fit in a byte array.
+     */
+    public int encodeToUtf16(byte[] src, byte[] dst, ByteOrder order) {
+        final boolean bigEndian = Objects.requireNonNull(order, "order") == ByteOrder.BIG_ENDIAN;
+        final int length = utf16Length(src.length);
+        if (dst.length < length) throw new BufferTooSmallException(length, dst.length);
+
+        final int srcLen = src.length;
+        int sp = 0;
+        int dp = 0;
+
+        byte[] rest = src;
+        int restEnd = srcLen;
+        if (checksum) {
+            final CRC32C crc = new CRC32C();
+
+            // チェックサムはキャッシュに載っている間にブロック単位で更新する
+            int groups = srcLen / 15;
+            while (groups > 0) {
+                final int n = Math.min(groups, CHECKSUM_CHUNK_GROUPS);
+                crc.update(src, sp, n * 15);
+                encodeGroupsUtf16(src, sp, dst, dp, n, bigEndian);
+                sp += n * 15;
+                dp += n * 16;
+                groups -= n;
+            }
+
+            // 残りバイトとチェックサムをまとめて末尾として処理
+            crc.update(src, sp, srcLen - sp);
+            rest = new byte[srcLen - sp + CHECKSUM_BYTES];
+            System.arraycopy(src, sp, rest, 0, srcLen - sp);
+            VH_INT_BE.set(rest, srcLen - sp, (int) crc.getValue());
+            sp = 0;
+            restEnd = rest.length;
+        } else {
+            final int groups = srcLen / 15;
+            encodeGroupsUtf16(src, 0, dst, 0, groups, bigEndian);
+            sp = groups * 15;
+            dp = groups * 16;
+        }
+
+        // 端数は高々10文字なので小さなバッファ経由で書き込む
+        final char[] tail = new char[10];
+        final int tailLen = encodeTail(rest, sp, restEnd, tail, 0);
+        for (int i = 0; i < tailLen; i++) {
+            putChar(dst, dp + (i << 1), tail[i], bigEndian);
+        }
+
+        return length;
+    }
+
+    private int utf16Length(int srcLen) {
+        final long bytes = checksum ? srcLen + (long) CHECKSUM_BYTES : srcLen;
+        final long length = (bytes * 8L + 14L) / 15 * 2;
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Input is too large to encode into UTF-16 bytes: " + srcLen + " bytes");
+        }
+        return (int) length;
+    }
+
+    /**
+     * Returns an encoder instance that appends a CRC-32C checksum of the input to the encoded text.<br>
+     * The checksum is updated block by block while encoding, so no extra pass over the input is needed. The returned
+     * text can only be decoded by a decoder obtained from {@link Base32768Decoder#withChecksum()}.
+     *
+     * @return An equivalent encoder that appends a checksum of the input.
+     */
+    public Base32768Encoder withChecksum() {
+        return checksum ? this : new Base32768Encoder(true, engine);
+    }
+
+    /**
+     * Returns an encoder instance that encodes 15-byte groups with the given engine instead of the default one.<br>
+     * The encoded text doesn't depend on the engine.
+     *
+     * @param engine the engine to encode with
+     * @return An equivalent encoder that uses the given engine.
+     * @see Base32768Engine
+     */
+    public Base32768Encoder withEngine(Base32768Engine engine) {
+        return new Base32768Encoder(checksum, Objects.requireNonNull(engine, "engine"));
+    }
+
+    private char[] encodeWithChecksum(byte[] src) {
+        final int srcLen = src.length;
+        final char[] out = new char[(int) ((((srcLen + (long) CHECKSUM_BYTES) * 8L) + 14L) / 15)];
+        final CRC32C crc = new CRC32C();
+
+        int sp = 0;
+        int dp = 0;
+
+        // チェックサムはキャッシュに載っている間にブロック単位で更新する
+        int groups = srcLen / 15;
+        while (groups > 0) {
+            final int n = Math.min(groups, CHECKSUM_CHUNK_GROUPS);
+            crc.update(src, sp, n * 15);
+            engine.encodeGroups(src, sp, out, dp, n);
+            sp += n * 15;
+            dp += n * 8;
+            groups -= n;
+        }
+
+        // 残りバイトとチェックサムをまとめて末尾として処理
+        final int rest = srcLen - sp;
+        crc.update(src, sp, rest);
+        final byte[] tail = new byte[rest + CHECKSUM_BYTES];
+        System.arraycopy(src, sp, tail, 0, rest);
+        VH_INT_BE.set(tail, rest, (int) crc.getValue());
+
+        encodeTail(tail, 0, tail.length, out, dp);
+
+        return out;
+    }
+
+    /**
+     * Encodes the given number of 15-byte groups from src into 8 characters each.
+     */
+    static void encodeGroups(byte[] src, int sp, char[] out, int dp, int groups) {
+        final char[] lut15 = Tables.CODES15_CHAR;
+
+        int i = sp;
+        int oi = dp;
+        final int end = sp + groups * 15;
+        while (i < end) {
             long hi = (long) VH_LONG_BE.get(src, i);
             long lo = (long) VH_LONG_BE.get(src, i + 7);
 
@@ -146,12 +299,58 @@ public class Base32768Encoder {
             i += 15;
             oi += 8;
         }
+    }
+
+    /**
+     * Encodes the given number of 15-byte groups from src into 8 UTF-16 code units each.
+     */
+    private static void encodeGroupsUtf16(byte[] src, int sp, byte[] out, int dp, int groups, boolean bigEndian) {
+        final char[] lut15 = Tables.CODES15_CHAR;
+
+        int i = sp;
+        int oi = dp;
+        final int end = sp + groups * 15;
+        while (i < end) {
+            long hi = (long) VH_LONG_BE.get(src, i);
+            long lo = (long) VH_LONG_BE.get(src, i + 7);
+
+            putChar(out, oi, lut15[(int) (hi >>> 49)], bigEndian);
+            putChar(out, oi + 2, lut15[(int) (hi >>> 34) & 0x7FFF], bigEndian);
+            putChar(out, oi + 4, lut15[(int) (hi >>> 19) & 0x7FFF], bigEndian);
+            putChar(out, oi + 6, lut15[(int) (hi >>> 4) & 0x7FFF], bigEndian);
+            putChar(out, oi + 8, lut15[(int) (((hi & 0xFL) << 11) | ((lo >>> 45) & 0x7FFL))], bigEndian);
+            putChar(out, oi + 10, lut15[(int) (lo >>> 30) & 0x7FFF], bigEndian);
+            putChar(out, oi + 12, lut15[(int) (lo >>> 15) & 0x7FFF], bigEndian);
+            putChar(out, oi + 14, lut15[(int) lo & 0x7FFF], bigEndian);
+
+            i += 15;
+            oi += 16;
+        }
+    }
+
+    private static void putChar(byte[] out, int index, char ch, boolean bigEndian) {
+        if (bigEndian) {
+            VH_SHORT_BE.set(out, index, (short) ch);
+        } else {
+            VH_SHORT_LE.set(out, index, (short) ch);
+        }
+    }
+
+    /**
+     * Encodes src[sp, sl) bit by bit, including the final padded character, and returns the next output index.
+     */
+    static int encodeTail(byte[] src, int sp, int sl, char[] out, int dp) {
+        final char[] lut15 = Tables.CODES15_CHAR;
+        final char[] lut7 = Tables.CODES7_CHAR;
+
+        int i = sp;
+        int oi = dp;
 
         // 残りバイトの処理
         long acc = 0L;
         int bitCount = 0;
 
-        while (i < srcLen) {
+        while (i < sl) {
             acc = (acc << 8) | (src[i++] & 0xFFL);
             bitCount += 8;
 
@@ -173,7 +372,7 @@ public class Base32768Encoder {
             out[oi++] = lut7[v];
         }
 
-        return new String(out);
+        return oi;
     }
 
     /**
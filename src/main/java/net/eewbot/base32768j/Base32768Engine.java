@@ -0,0 +1,125 @@
+package net.eewbot.base32768j;
+
+import net.eewbot.base32768j.exception.IllegalBase32768TextException;
+
+import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * An engine converting whole groups between 15 bytes and 8 {@link Base32768} characters. {@link Base32768Encoder} and
+ * {@link Base32768Decoder} delegate the bulk of their work to an engine, while the trailing partial group, padding and
+ * checksums are always handled by the codec itself.<br>
+ * Engines must produce exactly the same output as {@link #scalar()} for every input, and must be safe for use by
+ * multiple concurrent threads. Additional engines can be provided through {@link ServiceLoader} and selected by
+ * {@link #byName(String)}, or by setting the system property {@value #ENGINE_PROPERTY} to the engine name before the
+ * {@link Base32768} class is initialized. If that engine cannot be found or loaded, a warning is logged and the
+ * scalar engine is used instead.
+ */
+public interface Base32768Engine {
+    /**
+     * The system property naming the engine used by {@link Base32768#getEncoder()} and {@link Base32768#getDecoder()}.
+     */
+    String ENGINE_PROPERTY = "net.eewbot.base32768j.engine";
+
+    /**
+     * Returns the name of this engine, used by {@link #byName(String)}.
+     *
+     * @return The name of this engine.
+     */
+    String name();
+
+    /**
+     * Encodes the given number of 15-byte groups, reading src from offset sp and writing 8 characters per group to dst
+     * from offset dp.
+     *
+     * @param src    the byte array to encode
+     * @param sp     the offset of the first group in src
+     * @param dst    the output char array
+     * @param dp     the offset of the first character in dst
+     * @param groups the number of groups to encode
+     */
+    void encodeGroups(byte[] src, int sp, char[] dst, int dp, int groups);
+
+    /**
+     * Decodes the given number of 8-character groups, reading src from index sp and writing 15 bytes per group to dst
+     * from offset dp. Every character must be a 15-bit Base32768 character.<br>
+     * The source is typed as String so that the JIT can optimize character access in the loop; other
+     * {@link CharSequence} inputs are decoded by the scalar engine.
+     *
+     * @param src    the text to decode
+     * @param sp     the index of the first group in src
+     * @param dst    the output byte array
+     * @param dp     the offset of the first byte in dst
+     * @param groups the number of groups to decode
+     * @throws IllegalBase32768TextException if a character is not a 15-bit Base32768 character.
+     */
+    void decodeGroups(String src, int sp, byte[] dst, int dp, int groups);
+
+    /**
+     * Returns the engine looking up every character in full-size tables. This is the reference implementation and the
+     * default engine.
+     *
+     * @return The scalar engine.
+     */
+    static Base32768Engine scalar() {
+        return Base32768ScalarEngine.INSTANCE;
+    }
+
+    /**
+     * Returns the engine looking up characters by 32-character blocks in tables small enough to stay in L1 cache.
+     *
+     * @return The table-compact engine.
+     */
+    static Base32768Engine compact() {
+        return Base32768CompactEngine.INSTANCE;
+    }
+
+    /**
+     * Returns the engine splitting large inputs into chunks processed on the common fork-join pool by the scalar
+     * engine. When the input is invalid, which of the invalid characters is reported is unspecified.
+     *
+     * @return The parallel engine.
+     */
+    static Base32768Engine parallel() {
+        return Base32768ParallelEngine.INSTANCE;
+    }
+
+    /**
+     * Returns the engine choosing one of the other built-in engines on each call from the input size and the number of
+     * available processors. Its parallel threshold is provisional, so it is only used when chosen explicitly.
+     *
+     * @return The adaptive engine.
+     */
+    static Base32768Engine adaptive() {
+        return Base32768AdaptiveEngine.INSTANCE;
+    }
+
+    /**
+     * Returns the built-in engine or the engine provided through {@link ServiceLoader} with the given name.
+     *
+     * @param name the name of the engine
+     * @return The engine with the given name.
+     * @throws IllegalArgumentException  if no engine has the given name.
+     * @throws ServiceConfigurationError if a provider of another engine fails to load.
+     */
+    static Base32768Engine byName(String name) {
+        // 使わないエンジンのクラスとテーブルを初期化しないよう、名前は定数と比べる
+        switch (Objects.requireNonNull(name, "name")) {
+            case Base32768ScalarEngine.NAME:
+                return scalar();
+            case Base32768CompactEngine.NAME:
+                return compact();
+            case Base32768ParallelEngine.NAME:
+                return parallel();
+            case Base32768AdaptiveEngine.NAME:
+                return adaptive();
+        }
+
+        for (Base32768Engine engine : ServiceLoader.load(Base32768Engine.class)) {
+            if (engine.name().equals(name)) return engine;
+        }
+
+        throw new IllegalArgumentException("Unknown Base32768 engine: " + name);
+    }
+}
@@ -0,0 +1,49 @@
+package net.eewbot.base32768j;
+
+import java.util.stream.IntStream;
+
+/**
+ * The engine splitting inputs into chunks processed on the common fork-join pool by the scalar engine.
+ */
+final class Base32768ParallelEngine implements Base32768Engine {
+    static final String NAME = "parallel";
+    static final Base32768ParallelEngine INSTANCE = new Base32768ParallelEngine();
+
+    private Base32768ParallelEngine() {}
+
+    // Number of groups per task (60 KiB of bytes). A task costs about 0.04 us against about 18 us of work per chunk
+    private static final int CHUNK_GROUPS = 1 << 12;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void encodeGroups(byte[] src, int sp, char[] dst, int dp, int groups) {
+        if (groups <= CHUNK_GROUPS) {
+            Base32768Encoder.encodeGroups(src, sp, dst, dp, groups);
+            return;
+        }
+
+        IntStream.range(0, (groups + CHUNK_GROUPS - 1) / CHUNK_GROUPS).parallel().forEach(chunk -> {
+            final int first = chunk * CHUNK_GROUPS;
+            final int n = Math.min(CHUNK_GROUPS, groups - first);
+            Base32768Encoder.encodeGroups(src, sp + first * 15, dst, dp + first * 8, n);
+        });
+    }
+
+    @Override
+    public void decodeGroups(String src, int sp, byte[] dst, int dp, int groups) {
+        if (groups <= CHUNK_GROUPS) {
+            Base32768Decoder.decodeGroups(src, sp, dst, dp, groups);
+            return;
+        }
+
+        IntStream.range(0, (groups + CHUNK_GROUPS - 1) / CHUNK_GROUPS).parallel().forEach(chunk -> {
+            final int first = chunk * CHUNK_GROUPS;
+            final int n = Math.min(CHUNK_GROUPS, groups - first);
+            Base32768Decoder.decodeGroups(src, sp + first * 8, dst, dp + first * 15, n);
+        });
+    }
+}
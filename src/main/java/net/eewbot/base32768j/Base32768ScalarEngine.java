@@ -0,0 +1,27 @@
+package net.eewbot.base32768j;
+
+/**
+ * The engine looking up every character in the full-size tables of {@link Base32768Encoder} and
+ * {@link Base32768Decoder}.
+ */
+final class Base32768ScalarEngine implements Base32768Engine {
+    static final String NAME = "scalar";
+    static final Base32768ScalarEngine INSTANCE = new Base32768ScalarEngine();
+
+    private Base32768ScalarEngine() {}
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void encodeGroups(byte[] src, int sp, char[] dst, int dp, int groups) {
+        Base32768Encoder.encodeGroups(src, sp, dst, dp, groups);
+    }
+
+    @Override
+    public void decodeGroups(String src, int sp, byte[] dst, int dp, int groups) {
+        Base32768Decoder.decodeGroups(src, sp, dst, dp, groups);
+    }
+}
@@ -0,0 +1,313 @@
+package net.eewbot.base32768j;
+
+import net.eewbot.base32768j.exception.IllegalBase32768TextException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * This class implements a transcoder between the Base64 encoding scheme
+ * (<a href="https://www.rfc-editor.org/rfc/rfc4648#section-4">RFC 4648 basic alphabet</a>) and the {@link Base32768}
+ * encoding scheme, without materializing the whole binary data in between.<br>
+ * 20 Base64 characters and 8 Base32768 characters both carry exactly 15 bytes, so the input is consumed in such groups
+ * through a small fixed-size buffer. Padding is written when producing Base64 and is optional when reading it.<br>
+ * Instances of {@link Base64Transcoder} class are safe for use by multiple concurrent threads.<br>
+ * Unless otherwise noted, passing a null argument to a method of this class will cause a {@link NullPointerException}
+ * to be thrown.
+ */
+public class Base64Transcoder {
+    Base64Transcoder() {}
+
+    private static final char[] BASE64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+    private static final int[] BASE64_DECODE = new int[128];
+
+    // Number of 15-byte groups processed per buffer fill
+    private static final int WINDOW_GROUPS = 64;
+
+    static {
+        Arrays.fill(BASE64_DECODE, -1);
+        for (int i = 0; i < BASE64.length; i++) {
+            BASE64_DECODE[BASE64[i]] = i;
+        }
+    }
+
+    /**
+     * Transcodes the specified Base64 text into a String using the {@link Base32768} encoding scheme.
+     *
+     * @param base64 the Base64 text to transcode
+     * @return A string containing the resulting Base32768 encoded characters.
+     * @throws IllegalArgumentException if base64 is not in valid Base64 scheme.
+     */
+    public String toBase32768(CharSequence base64) {
+        StringWriter writer = new StringWriter((int) ((base64.length() * 6L + 14L) / 15));
+        try {
+            toBase32768(new CharSequenceReader(base64), writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Transcodes all Base64 text from the reader and writes the resulting {@link Base32768} encoded characters to the
+     * writer. Neither stream is closed.
+     *
+     * @param base64    the reader providing Base64 text
+     * @param base32768 the writer receiving Base32768 text
+     * @throws IOException              if an I/O error occurs.
+     * @throws IllegalArgumentException if the input is not in valid Base64 scheme.
+     */
+    public void toBase32768(Reader base64, Writer base32768) throws IOException {
+        final char[] in = new char[WINDOW_GROUPS * 20];
+        final byte[] bytes = new byte[WINDOW_GROUPS * 15];
+        final char[] out = new char[WINDOW_GROUPS * 8];
+
+        long position = 0;
+        int avail = 0;
+        boolean eof = false;
+        while (!eof) {
+            while (avail < in.length) {
+                int read = base64.read(in, avail, in.length - avail);
+                if (read < 0) {
+                    eof = true;
+                    break;
+                }
+                avail += read;
+            }
+
+            // 末尾4文字はパディングの可能性があるので常に残す
+            final int groups = Math.max(avail - 4, 0) / 20;
+            for (int g = 0; g < groups; g++) {
+                decodeBase64(in, g * 20, 20, bytes, g * 15, position + g * 20L);
+            }
+            Base32768Encoder.encodeGroups(bytes, 0, out, 0, groups);
+            base32768.write(out, 0, groups * 8);
+
+            final int consumed = groups * 20;
+            System.arraycopy(in, consumed, in, 0, avail - consumed);
+            avail -= consumed;
+            position += consumed;
+        }
+
+        int length = avail;
+        int padding = 0;
+        while (length > 0 && padding < 2 && in[length - 1] == '=') {
+            length--;
+            padding++;
+        }
+        if (length % 4 == 1 || (padding > 0 && avail % 4 != 0)) {
+            throw new IllegalArgumentException("Invalid Base64 length at position " + position + ": " + avail + " trailing characters");
+        }
+
+        final int tailBytes = decodeBase64(in, 0, length, bytes, 0, position);
+        final int written = Base32768Encoder.encodeTail(bytes, 0, tailBytes, out, 0);
+        base32768.write(out, 0, written);
+    }
+
+    /**
+     * Transcodes the specified {@link Base32768} text into a String using the Base64 encoding scheme with padding.
+     *
+     * @param base32768 the Base32768 text to transcode
+     * @return A string containing the resulting Base64 encoded characters.
+     * @throws IllegalBase32768TextException if base32768 is not in valid Base32768 scheme.
+     */
+    public String toBase64(CharSequence base32768) {
+        StringWriter writer = new StringWriter((int) ((base32768.length() * 15L / 8 + 2) / 3 * 4));
+        try {
+            toBase64(new CharSequenceReader(base32768), writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Transcodes all {@link Base32768} text from the reader and writes the resulting Base64 encoded characters with
+     * padding to the writer. Neither stream is closed.
+     *
+     * @param base32768 the reader providing Base32768 text
+     * @param base64    the writer receiving Base64 text
+     * @throws IOException                   if an I/O error occurs.
+     * @throws IllegalBase32768TextException if the input is not in valid Base32768 scheme.
+     */
+    public void toBase64(Reader base32768, Writer base64) throws IOException {
+        final char[] in = new char[WINDOW_GROUPS * 8];
+        final Window view = new Window(in);
+        final byte[] bytes = new byte[WINDOW_GROUPS * 15];
+        final char[] out = new char[WINDOW_GROUPS * 20];
+
+        long position = 0;
+        int avail = 0;
+        boolean eof = false;
+        while (!eof) {
+            while (avail < in.length) {
+                int read = base32768.read(in, avail, in.length - avail);
+                if (read < 0) {
+                    eof = true;
+                    break;
+                }
+                avail += read;
+            }
+
+            // 最後の1文字は7ビット文字の可能性があるので常に残す
+            final int groups = Math.max(avail - 1, 0) / 8;
+            view.move(position, avail);
+            Base32768Decoder.decodeGroups(view, view.base, bytes, 0, groups);
+            final int written = encodeBase64(bytes, groups * 15, out);
+            base64.write(out, 0, written);
+
+            final int consumed = groups * 8;
+            System.arraycopy(in, consumed, in, 0, avail - consumed);
+            avail -= consumed;
+            position += consumed;
+        }
+
+        if (avail == 0) return;
+
+        view.move(position, avail);
+        final int lastBits = Base32768Decoder.lastBits(view);
+        final int tailBytes = ((avail - 1) * 15 + lastBits) >>> 3;
+        Base32768Decoder.decodeTail(view, view.base, lastBits, bytes, 0);
+        final int written = encodeBase64(bytes, tailBytes, out);
+        base64.write(out, 0, written);
+    }
+
+    /**
+     * Decodes src[sp, sp + len) as unpadded Base64 into dst and returns the number of bytes written.
+     */
+    private static int decodeBase64(char[] src, int sp, int len, byte[] dst, int dp, long position) {
+        final int[] decode = BASE64_DECODE;
+        final int end = sp + len;
+
+        int acc = 0;
+        int bitCount = 0;
+        int oi = dp;
+        for (int i = sp; i < end; i++) {
+            final char ch = src[i];
+            final int v = ch < 128 ? decode[ch] : -1;
+            if (v < 0) {
+                throw new IllegalArgumentException("Illegal Base64 character at position " + (position + i - sp) + ": " + (int) ch);
+            }
+
+            acc = (acc << 6) | v;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                dst[oi++] = (byte) (acc >>> bitCount);
+            }
+        }
+
+        return oi - dp;
+    }
+
+    /**
+     * Encodes src[0, len) as padded Base64 into dst and returns the number of characters written.
+     */
+    private static int encodeBase64(byte[] src, int len, char[] dst) {
+        final char[] lut = BASE64;
+
+        int i = 0;
+        int oi = 0;
+        final int fastEnd = len - len % 3;
+        while (i < fastEnd) {
+            final int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+            dst[oi] = lut[bits >>> 18];
+            dst[oi + 1] = lut[(bits >>> 12) & 0x3F];
+            dst[oi + 2] = lut[(bits >>> 6) & 0x3F];
+            dst[oi + 3] = lut[bits & 0x3F];
+            i += 3;
+            oi += 4;
+        }
+
+        final int rest = len - i;
+        if (rest == 1) {
+            final int bits = (src[i] & 0xFF) << 16;
+            dst[oi++] = lut[bits >>> 18];
+            dst[oi++] = lut[(bits >>> 12) & 0x3F];
+            dst[oi++] = '=';
+            dst[oi++] = '=';
+        } else if (rest == 2) {
+            final int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+            dst[oi++] = lut[bits >>> 18];
+            dst[oi++] = lut[(bits >>> 12) & 0x3F];
+            dst[oi++] = lut[(bits >>> 6) & 0x3F];
+            dst[oi++] = '=';
+        }
+
+        return oi;
+    }
+
+    /**
+     * A view of the buffered window whose indices are positions in the whole stream, so that errors thrown by the
+     * decoder report where the invalid character is in the stream rather than in the buffer.
+     */
+    private static final class Window implements CharSequence {
+        private final char[] buffer;
+        private int base;
+        private int length;
+
+        Window(char[] buffer) {
+            this.buffer = buffer;
+        }
+
+        void move(long position, int length) {
+            // 位置がintに収まらなくなったら、ウィンドウ先頭からの相対位置で報告する
+            this.base = position <= Integer.MAX_VALUE - buffer.length ? (int) position : 0;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return base + length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return buffer[index - base];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return CharBuffer.wrap(buffer, start - base, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, 0, length);
+        }
+    }
+
+    private static final class CharSequenceReader extends Reader {
+        private final CharSequence src;
+        private int position;
+
+        CharSequenceReader(CharSequence src) {
+            this.src = src;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            final int remaining = src.length() - position;
+            if (remaining <= 0) return -1;
+
+            final int n = Math.min(len, remaining);
+            if (src instanceof String) {
+                ((String) src).getChars(position, position + n, cbuf, off);
+            } else {
+                for (int i = 0; i < n; i++) {
+                    cbuf[off + i] = src.charAt(position + i);
+                }
+            }
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,10 @@
+package net.eewbot.base32768j.exception;
+
+/**
+ * The error that the checksum of decoded bytes doesn't match the checksum carried by the input.
+ */
+public class ChecksumMismatchException extends Base32768Exception {
+    public ChecksumMismatchException(int expected, int actual) {
+        super("Expected checksum was 0x" + Integer.toHexString(expected) + ", but actually 0x" + Integer.toHexString(actual) + ".");
+    }
+}
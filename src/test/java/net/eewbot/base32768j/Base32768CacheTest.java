@@ -0,0 +1,176 @@
+package net.eewbot.base32768j;
+
+import net.eewbot.base32768j.exception.Base32768Exception;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class Base32768CacheTest {
+    @ParameterizedTest
+    @MethodSource("successCaseProvider")
+    void success(SuccessTestCase testCase) {
+        Base32768Cache cache = Base32768.newCache(64 << 20);
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertEquals(testCase.text, cache.encodeToString(testCase.bytes));
+            Assertions.assertArrayEquals(testCase.bytes, cache.decode(testCase.text));
+        }
+        Assertions.assertEquals(2, cache.missCount());
+        Assertions.assertEquals(2, cache.hitCount());
+    }
+
+    @Test
+    void isolation() {
+        Base32768Cache cache = Base32768.newCache(1 << 20);
+        byte[] bytes = {1, 2, 3, 4, 5};
+        String text = cache.encodeToString(bytes);
+
+        bytes[0] = 42;
+        Assertions.assertNotEquals(text, cache.encodeToString(bytes));
+        Assertions.assertEquals(2, cache.missCount());
+
+        byte[] decoded = cache.decode(text);
+        decoded[0] = 42;
+        Assertions.assertEquals(1, cache.decode(text)[0]);
+        Assertions.assertEquals(1, cache.hitCount());
+    }
+
+    @Test
+    void eviction() {
+        Base32768Cache cache = Base32768.newCache(64 * 1024);
+        SplittableRandom random = new SplittableRandom(789);
+        for (int i = 0; i < 1000; i++) {
+            byte[] bytes = new byte[random.nextInt(1, 256)];
+            random.nextBytes(bytes);
+            cache.encodeToString(bytes);
+            Assertions.assertTrue(cache.weight() <= 64 * 1024);
+        }
+        Assertions.assertTrue(cache.evictionCount() > 0);
+
+        // 最近使ったものは残っている
+        byte[] recent = {9, 8, 7};
+        cache.encodeToString(recent);
+        cache.encodeToString(recent);
+        Assertions.assertEquals(1, cache.hitCount());
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.weight());
+    }
+
+    @Test
+    void collision() {
+        // 31 * a + (a + 31) == 31 * (a + 1) + a なので、この2文字ずつの組をどう並べてもString.hashCode()が一致する
+        int a = Base32768Scheme.CODES_15_RANGES[0][0];
+        String[] blocks = {new String(new char[]{(char) a, (char) (a + 31)}), new String(new char[]{(char) (a + 1), (char) a})};
+        List<String> texts = new ArrayList<>();
+        for (int n = 0; n < 1 << 10; n++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < 16; i++) {
+                text.append(blocks[i < 10 ? n >> i & 1 : 0]);
+            }
+            texts.add(text.toString());
+        }
+
+        Base32768Cache cache = Base32768.newCache(64 << 20);
+        for (int i = 0; i < 2; i++) {
+            for (String text : texts) {
+                Assertions.assertEquals(texts.get(0).hashCode(), text.hashCode());
+                Assertions.assertArrayEquals(Base32768.getDecoder().decode(text), cache.decode(text));
+            }
+        }
+        Assertions.assertEquals(texts.size(), cache.missCount());
+        Assertions.assertEquals(texts.size(), cache.hitCount());
+    }
+
+    @Test
+    void oversized() {
+        Base32768Cache cache = Base32768.newCache(1024);
+        byte[] bytes = new byte[4096];
+        cache.encodeToString(bytes);
+        cache.encodeToString(bytes);
+        Assertions.assertEquals(0, cache.hitCount());
+        Assertions.assertEquals(0, cache.weight());
+    }
+
+    @Test
+    void checksum() {
+        Base32768Cache cache = new Base32768Cache(Base32768.getEncoder().withChecksum(), Base32768.getDecoder().withChecksum(), 1 << 20);
+        byte[] bytes = {1, 2, 3, 4, 5};
+        String text = cache.encodeToString(bytes);
+        Assertions.assertEquals(Base32768.getEncoder().withChecksum().encodeToString(bytes), text);
+        Assertions.assertArrayEquals(bytes, cache.decode(text));
+    }
+
+    @Test
+    void fail() {
+        Base32768Cache cache = Base32768.newCache(1 << 20);
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThrows(Base32768Exception.class, () -> cache.decode("ƀҠ"));
+        }
+        Assertions.assertEquals(0, cache.hitCount());
+        Assertions.assertEquals(0, cache.weight());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Base32768.newCache(-1));
+    }
+
+    @Test
+    void concurrent() throws Exception {
+        Base32768Cache cache = Base32768.newCache(1 << 20);
+        byte[][] payloads = new byte[32][];
+        SplittableRandom random = new SplittableRandom(789);
+        for (int i = 0; i < payloads.length; i++) {
+            payloads[i] = new byte[random.nextInt(1, 1024)];
+            random.nextBytes(payloads[i]);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        byte[] bytes = payloads[i % payloads.length];
+                        String text = cache.encodeToString(bytes);
+                        Assertions.assertArrayEquals(bytes, cache.decode(text));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(80_000, cache.hitCount() + cache.missCount());
+    }
+
+    static List<Arguments> successCaseProvider() throws IOException {
+        File baseDirectory = new File("src/test/resources/pairs/");
+        List<Util.TestCasePair> cases = Util.collectPairFiles(baseDirectory);
+
+        if (cases.isEmpty()) throw new IllegalStateException("No test resources available.");
+
+        List<Arguments> arguments = new ArrayList<>();
+        for (Util.TestCasePair testCase : cases) {
+            byte[] bytes = Files.readAllBytes(testCase.bin().toPath());
+            String text = Files.readString(testCase.txt().toPath());
+            arguments.add(Arguments.of(Named.of(testCase.name(), new SuccessTestCase(bytes, text))));
+        }
+
+        return arguments;
+    }
+
+    record SuccessTestCase(byte[] bytes, String text) {}
+}
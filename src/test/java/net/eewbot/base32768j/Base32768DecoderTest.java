@@ -1,14 +1,21 @@
 package net.eewbot.base32768j;
 
 import net.eewbot.base32768j.exception.Base32768Exception;
+import net.eewbot.base32768j.exception.ChecksumMismatchException;
+import net.eewbot.base32768j.exception.IllegalBase32768TextException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -55,6 +62,156 @@ public class Base32768DecoderTest {
         Assertions.assertArrayEquals(testCase.expected, actual);
     }
 
+    @ParameterizedTest
+    @MethodSource("successCaseProvider")
+    void range(SuccessTestCase testCase) {
+        int length = testCase.expected.length;
+        int[][] ranges = {{0, length}, {0, 0}, {length, length}, {0, Math.min(1, length)}, {length / 3, length - length / 3}, {Math.max(length - 1, 0), length}, {Math.min(16, length), Math.min(44, length)}};
+
+        for (int[] range : ranges) {
+            byte[] dst = new byte[range[1] - range[0]];
+            int written = Base32768.getDecoder().decodeRange(testCase.text, range[0], range[1], dst);
+            Assertions.assertEquals(dst.length, written);
+            Assertions.assertArrayEquals(Arrays.copyOfRange(testCase.expected, range[0], range[1]), dst);
+        }
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Base32768.getDecoder().decodeRange(testCase.text, 0, length + 1, new byte[length + 1]));
+    }
+
+    @Test
+    void rangeSkipsUnrelatedBlocks() {
+        byte[] bytes = new byte[60];
+        for (int i = 0; i < bytes.length; i++) bytes[i] = (byte) i;
+
+        char[] text = Base32768.getEncoder().encodeToString(bytes).toCharArray();
+        text[0] = 'A';
+
+        byte[] dst = new byte[20];
+        Base32768.getDecoder().decodeRange(new String(text), 20, 40, dst);
+        Assertions.assertArrayEquals(Arrays.copyOfRange(bytes, 20, 40), dst);
+        Assertions.assertThrows(Base32768Exception.class, () -> Base32768.getDecoder().decodeRange(new String(text), 10, 20, dst));
+    }
+
+    @Test
+    void channel() throws IOException {
+        byte[] bytes = new byte[1000];
+        for (int i = 0; i < bytes.length; i++) bytes[i] = (byte) (i * 31);
+        String text = Base32768.getEncoder().encodeToString(bytes);
+
+        File file = File.createTempFile("base32768", ".txt");
+        try {
+            Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_16LE));
+
+            try (SeekableByteChannel textChannel = Base32768.getDecoder().newChannel(text);
+                 SeekableByteChannel fileChannel = Base32768.getDecoder().newChannel(file.toPath(), ByteOrder.LITTLE_ENDIAN)) {
+                for (SeekableByteChannel channel : List.of(textChannel, fileChannel)) {
+                    Assertions.assertEquals(bytes.length, channel.size());
+
+                    ByteBuffer heap = ByteBuffer.allocate(100);
+                    channel.position(123);
+                    Assertions.assertEquals(100, channel.read(heap));
+                    Assertions.assertArrayEquals(Arrays.copyOfRange(bytes, 123, 223), heap.array());
+
+                    ByteBuffer direct = ByteBuffer.allocateDirect(200);
+                    channel.position(900);
+                    Assertions.assertEquals(100, channel.read(direct));
+                    Assertions.assertEquals(-1, channel.read(direct));
+
+                    byte[] tail = new byte[100];
+                    direct.flip().get(tail);
+                    Assertions.assertArrayEquals(Arrays.copyOfRange(bytes, 900, 1000), tail);
+                }
+            }
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("successCaseProvider")
+    void utf16(SuccessTestCase testCase) {
+        Assertions.assertArrayEquals(testCase.expected, Base32768.getDecoder().decodeUtf16(testCase.text.getBytes(StandardCharsets.UTF_16LE), ByteOrder.LITTLE_ENDIAN));
+        Assertions.assertArrayEquals(testCase.expected, Base32768.getDecoder().decodeUtf16(testCase.text.getBytes(StandardCharsets.UTF_16BE), ByteOrder.BIG_ENDIAN));
+
+        byte[] dst = new byte[testCase.expected.length + 1];
+        int written = Base32768.getDecoder().decodeUtf16(testCase.text.getBytes(StandardCharsets.UTF_16BE), dst, ByteOrder.BIG_ENDIAN);
+        Assertions.assertEquals(testCase.expected.length, written);
+        Assertions.assertArrayEquals(testCase.expected, Arrays.copyOf(dst, written));
+    }
+
+    @ParameterizedTest
+    @MethodSource("failCaseProvider")
+    void utf16Fail(String testCase) {
+        Assertions.assertThrows(Base32768Exception.class, () -> Base32768.getDecoder().decodeUtf16(testCase.getBytes(StandardCharsets.UTF_16LE), ByteOrder.LITTLE_ENDIAN));
+    }
+
+    @Test
+    void outOfRangeCodeUnit() {
+        byte[] bytes = new byte[1000];
+        String valid = Base32768.getEncoder().encodeToString(bytes);
+
+        // グループ内、末尾の端数、最後の1文字のそれぞれに表の範囲外の文字を置く
+        for (int at : new int[]{100, valid.length() - 2, valid.length() - 1}) {
+            char[] chars = valid.toCharArray();
+            chars[at] = '\ub000';
+            String text = new String(chars);
+            Base32768Decoder decoder = Base32768.getDecoder();
+
+            Assertions.assertThrows(IllegalBase32768TextException.class, () -> decoder.decode(text));
+            Assertions.assertThrows(IllegalBase32768TextException.class, () -> decoder.decode(text.getBytes(StandardCharsets.UTF_8)));
+            Assertions.assertThrows(IllegalBase32768TextException.class, () -> decoder.withChecksum().decode(text));
+            Assertions.assertThrows(IllegalBase32768TextException.class, () -> decoder.decodeUtf16(text.getBytes(StandardCharsets.UTF_16LE), ByteOrder.LITTLE_ENDIAN));
+            Assertions.assertThrows(IllegalBase32768TextException.class, () -> decoder.decodeUtf16(text.getBytes(StandardCharsets.UTF_16BE), new byte[bytes.length], ByteOrder.BIG_ENDIAN));
+            Assertions.assertThrows(IllegalBase32768TextException.class, () -> decoder.withChecksum().decodeUtf16(text.getBytes(StandardCharsets.UTF_16BE), ByteOrder.BIG_ENDIAN));
+            Assertions.assertThrows(IllegalBase32768TextException.class, () -> decoder.decodeRange(new StringBuilder(text), 0, bytes.length, new byte[bytes.length]));
+            Assertions.assertThrows(IllegalBase32768TextException.class, () -> decoder.newChannel(text).read(ByteBuffer.allocate(bytes.length)));
+        }
+    }
+
+    @Test
+    void utf16OddLength() {
+        Assertions.assertThrows(Base32768Exception.class, () -> Base32768.getDecoder().decodeUtf16(new byte[3], ByteOrder.LITTLE_ENDIAN));
+    }
+
+    @ParameterizedTest
+    @MethodSource("successCaseProvider")
+    void checksum(SuccessTestCase testCase) {
+        String text = Base32768.getEncoder().withChecksum().encodeToString(testCase.expected);
+        byte[] actual = Base32768.getDecoder().withChecksum().decode(text);
+        Assertions.assertArrayEquals(testCase.expected, actual);
+    }
+
+    @ParameterizedTest
+    @MethodSource("successCaseProvider")
+    void utf16Checksum(SuccessTestCase testCase) {
+        String text = Base32768.getEncoder().withChecksum().encodeToString(testCase.expected);
+        Base32768Decoder decoder = Base32768.getDecoder().withChecksum();
+        Assertions.assertArrayEquals(testCase.expected, decoder.decodeUtf16(text.getBytes(StandardCharsets.UTF_16LE), ByteOrder.LITTLE_ENDIAN));
+
+        byte[] dst = new byte[testCase.expected.length + 1];
+        int written = decoder.decodeUtf16(text.getBytes(StandardCharsets.UTF_16BE), dst, ByteOrder.BIG_ENDIAN);
+        Assertions.assertEquals(testCase.expected.length, written);
+        Assertions.assertArrayEquals(testCase.expected, Arrays.copyOf(dst, written));
+    }
+
+    @Test
+    void checksumMismatch() {
+        byte[] bytes = new byte[100];
+        for (int i = 0; i < bytes.length; i++) bytes[i] = (byte) i;
+
+        char[] text = Base32768.getEncoder().withChecksum().encodeToString(bytes).toCharArray();
+        text[10] = text[10] == '\u4e00' ? '\u4e01' : '\u4e00';
+
+        Assertions.assertThrows(ChecksumMismatchException.class, () -> Base32768.getDecoder().withChecksum().decode(new String(text)));
+        Assertions.assertThrows(ChecksumMismatchException.class, () -> Base32768.getDecoder().withChecksum().decodeUtf16(new String(text).getBytes(StandardCharsets.UTF_16BE), ByteOrder.BIG_ENDIAN));
+    }
+
+    @Test
+    void checksumTooShort() {
+        Assertions.assertThrows(Base32768Exception.class, () -> Base32768.getDecoder().withChecksum().decode(""));
+        Assertions.assertThrows(Base32768Exception.class, () -> Base32768.getDecoder().withChecksum().decode("\u04a0"));
+    }
+
     static List<Arguments> successCaseProvider() throws IOException {
         File baseDirectory = new File("src/test/resources/pairs/");
         List<Util.TestCasePair> cases = Util.collectPairFiles(baseDirectory);
@@ -1,16 +1,22 @@
 package net.eewbot.base32768j;
 
+import net.eewbot.base32768j.exception.BufferTooSmallException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.CRC32C;
 
 public class Base32768EncoderTest {
     @ParameterizedTest
@@ -20,6 +26,47 @@ public class Base32768EncoderTest {
         Assertions.assertEquals(testCase.expected, actual);
     }
 
+    @ParameterizedTest
+    @MethodSource("successCaseProvider")
+    void checksum(SuccessTestCase testCase) {
+        CRC32C crc = new CRC32C();
+        crc.update(testCase.bytes);
+        byte[] framed = ByteBuffer.allocate(testCase.bytes.length + 4).put(testCase.bytes).putInt((int) crc.getValue()).array();
+
+        String actual = Base32768.getEncoder().withChecksum().encodeToString(testCase.bytes);
+        Assertions.assertEquals(Base32768.getEncoder().encodeToString(framed), actual);
+    }
+
+    @ParameterizedTest
+    @MethodSource("successCaseProvider")
+    void utf16(SuccessTestCase testCase) {
+        Assertions.assertArrayEquals(testCase.expected.getBytes(StandardCharsets.UTF_16LE), Base32768.getEncoder().encodeToUtf16(testCase.bytes, ByteOrder.LITTLE_ENDIAN));
+        Assertions.assertArrayEquals(testCase.expected.getBytes(StandardCharsets.UTF_16BE), Base32768.getEncoder().encodeToUtf16(testCase.bytes, ByteOrder.BIG_ENDIAN));
+
+        byte[] dst = new byte[testCase.expected.length() * 2 + 1];
+        int written = Base32768.getEncoder().encodeToUtf16(testCase.bytes, dst, ByteOrder.LITTLE_ENDIAN);
+        Assertions.assertEquals(testCase.expected.length() * 2, written);
+        Assertions.assertEquals(testCase.expected, new String(dst, 0, written, StandardCharsets.UTF_16LE));
+    }
+
+    @ParameterizedTest
+    @MethodSource("successCaseProvider")
+    void utf16Checksum(SuccessTestCase testCase) {
+        Base32768Encoder encoder = Base32768.getEncoder().withChecksum();
+        String expected = encoder.encodeToString(testCase.bytes);
+        Assertions.assertArrayEquals(expected.getBytes(StandardCharsets.UTF_16LE), encoder.encodeToUtf16(testCase.bytes, ByteOrder.LITTLE_ENDIAN));
+
+        byte[] dst = new byte[expected.length() * 2 + 1];
+        int written = encoder.encodeToUtf16(testCase.bytes, dst, ByteOrder.BIG_ENDIAN);
+        Assertions.assertEquals(expected.length() * 2, written);
+        Assertions.assertEquals(expected, new String(dst, 0, written, StandardCharsets.UTF_16BE));
+    }
+
+    @Test
+    void utf16TooSmall() {
+        Assertions.assertThrows(BufferTooSmallException.class, () -> Base32768.getEncoder().encodeToUtf16(new byte[15], new byte[15], ByteOrder.BIG_ENDIAN));
+    }
+
     static List<Arguments> successCaseProvider() throws IOException {
         File baseDirectory = new File("src/test/resources/pairs/");
         List<Util.TestCasePair> cases = Util.collectPairFiles(baseDirectory);
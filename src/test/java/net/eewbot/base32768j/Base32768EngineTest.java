@@ -0,0 +1,87 @@
+package net.eewbot.base32768j;
+
+import net.eewbot.base32768j.exception.Base32768Exception;
+import net.eewbot.base32768j.exception.IllegalBase32768TextException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class Base32768EngineTest {
+    private static final List<Base32768Engine> ENGINES = List.of(Base32768Engine.scalar(), Base32768Engine.compact(), Base32768Engine.parallel(), Base32768Engine.adaptive());
+
+    @ParameterizedTest
+    @MethodSource("successCaseProvider")
+    void success(SuccessTestCase testCase) {
+        String actual = Base32768.getEncoder().withEngine(testCase.engine).encodeToString(testCase.bytes);
+        Assertions.assertEquals(testCase.text, actual);
+        Assertions.assertArrayEquals(testCase.bytes, Base32768.getDecoder().withEngine(testCase.engine).decode(testCase.text));
+    }
+
+    @ParameterizedTest
+    @MethodSource("engineProvider")
+    void large(Base32768Engine engine) {
+        byte[] bytes = new byte[3_000_000];
+        new SplittableRandom(789).nextBytes(bytes);
+
+        String expected = Base32768.getEncoder().withEngine(Base32768Engine.scalar()).encodeToString(bytes);
+        String actual = Base32768.getEncoder().withEngine(engine).encodeToString(bytes);
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertArrayEquals(bytes, Base32768.getDecoder().withEngine(engine).decode(actual));
+    }
+
+    @ParameterizedTest
+    @MethodSource("engineProvider")
+    void fail(Base32768Engine engine) {
+        char[] text = Base32768.getEncoder().encodeToString(new byte[3_000_000]).toCharArray();
+        text[text.length / 2] = 'A';
+
+        Assertions.assertThrows(Base32768Exception.class, () -> Base32768.getDecoder().withEngine(engine).decode(new String(text)));
+
+        // 表の範囲外の文字もエンジンによらず同じ例外になる
+        text[text.length / 2] = '\ub000';
+        Assertions.assertThrows(IllegalBase32768TextException.class, () -> Base32768.getDecoder().withEngine(engine).decode(new String(text)));
+        Assertions.assertThrows(Base32768Exception.class, () -> Base32768.getDecoder().withEngine(engine).decode("ƀҠ"));
+    }
+
+    @Test
+    void byName() {
+        for (Base32768Engine engine : ENGINES) {
+            Assertions.assertSame(engine, Base32768Engine.byName(engine.name()));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Base32768Engine.byName("unknown"));
+    }
+
+    static List<Arguments> engineProvider() {
+        return ENGINES.stream().map(engine -> Arguments.of(Named.of(engine.name(), engine))).toList();
+    }
+
+    static List<Arguments> successCaseProvider() throws IOException {
+        File baseDirectory = new File("src/test/resources/pairs/");
+        List<Util.TestCasePair> cases = Util.collectPairFiles(baseDirectory);
+
+        if (cases.isEmpty()) throw new IllegalStateException("No test resources available.");
+
+        List<Arguments> arguments = new ArrayList<>();
+        for (Util.TestCasePair testCase : cases) {
+            byte[] bytes = Files.readAllBytes(testCase.bin().toPath());
+            String text = Files.readString(testCase.txt().toPath());
+            for (Base32768Engine engine : ENGINES) {
+                arguments.add(Arguments.of(Named.of(engine.name() + ": " + testCase.name(), new SuccessTestCase(engine, bytes, text))));
+            }
+        }
+
+        return arguments;
+    }
+
+    record SuccessTestCase(Base32768Engine engine, byte[] bytes, String text) {}
+}
@@ -0,0 +1,105 @@
+package net.eewbot.base32768j;
+
+import net.eewbot.base32768j.exception.Base32768Exception;
+import net.eewbot.base32768j.exception.IllegalBase32768TextException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+public class Base64TranscoderTest {
+    @ParameterizedTest
+    @MethodSource("successCaseProvider")
+    void toBase32768(SuccessTestCase testCase) {
+        String actual = Base32768.getBase64Transcoder().toBase32768(testCase.base64);
+        Assertions.assertEquals(testCase.base32768, actual);
+    }
+
+    @ParameterizedTest
+    @MethodSource("successCaseProvider")
+    void toBase32768Unpadded(SuccessTestCase testCase) {
+        String unpadded = testCase.base64.replace("=", "");
+        String actual = Base32768.getBase64Transcoder().toBase32768(new StringBuilder(unpadded));
+        Assertions.assertEquals(testCase.base32768, actual);
+    }
+
+    @ParameterizedTest
+    @MethodSource("successCaseProvider")
+    void toBase64(SuccessTestCase testCase) {
+        String actual = Base32768.getBase64Transcoder().toBase64(testCase.base32768);
+        Assertions.assertEquals(testCase.base64, actual);
+    }
+
+    @ParameterizedTest
+    @MethodSource("successCaseProvider")
+    void stream(SuccessTestCase testCase) throws IOException {
+        StringWriter base32768 = new StringWriter();
+        Base32768.getBase64Transcoder().toBase32768(new StringReader(testCase.base64), base32768);
+        Assertions.assertEquals(testCase.base32768, base32768.toString());
+
+        StringWriter base64 = new StringWriter();
+        Base32768.getBase64Transcoder().toBase64(new StringReader(testCase.base32768), base64);
+        Assertions.assertEquals(testCase.base64, base64.toString());
+    }
+
+    @Test
+    void illegalBase64() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Base32768.getBase64Transcoder().toBase32768("AAA*"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Base32768.getBase64Transcoder().toBase32768("AAAAA"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Base32768.getBase64Transcoder().toBase32768("AAA=="));
+    }
+
+    @Test
+    void illegalBase32768() {
+        Assertions.assertThrows(Base32768Exception.class, () -> Base32768.getBase64Transcoder().toBase64("AAAA"));
+        Assertions.assertThrows(IllegalBase32768TextException.class, () -> Base32768.getBase64Transcoder().toBase64("\ub000\u4e00"));
+        Assertions.assertThrows(IllegalBase32768TextException.class, () -> Base32768.getBase64Transcoder().toBase64(new StringReader("\u4e00\ub000"), new StringWriter()));
+    }
+
+    @Test
+    void illegalBase32768Position() {
+        char[] chars = Base32768.getEncoder().encodeToString(new byte[3000]).toCharArray();
+        chars[1000] = 'A';
+        String text = new String(chars);
+
+        // ウィンドウ内ではなくストリーム全体での位置が報告される
+        Base32768Exception expected = Assertions.assertThrows(Base32768Exception.class, () -> Base32768.getDecoder().decode(text));
+        Base32768Exception actual = Assertions.assertThrows(Base32768Exception.class, () -> Base32768.getBase64Transcoder().toBase64(text));
+        Assertions.assertEquals(expected.getMessage(), actual.getMessage());
+        Assertions.assertEquals("Unknown code point at 1000: 65", actual.getMessage());
+
+        String last = text.substring(0, 1000) + text.substring(1001, text.length() - 1) + 'A';
+        expected = Assertions.assertThrows(Base32768Exception.class, () -> Base32768.getDecoder().decode(last));
+        actual = Assertions.assertThrows(Base32768Exception.class, () -> Base32768.getBase64Transcoder().toBase64(new StringReader(last), new StringWriter()));
+        Assertions.assertEquals(expected.getMessage(), actual.getMessage());
+    }
+
+    static List<Arguments> successCaseProvider() throws IOException {
+        File baseDirectory = new File("src/test/resources/pairs/");
+        List<Util.TestCasePair> cases = Util.collectPairFiles(baseDirectory);
+
+        if (cases.isEmpty()) throw new IllegalStateException("No test resources available.");
+
+        List<Arguments> arguments = new ArrayList<>();
+        for (Util.TestCasePair testCase : cases) {
+            byte[] bytes = Files.readAllBytes(testCase.bin().toPath());
+            String text = Files.readString(testCase.txt().toPath());
+            arguments.add(Arguments.of(Named.of(testCase.name(), new SuccessTestCase(Base64.getEncoder().encodeToString(bytes), text))));
+        }
+
+        return arguments;
+    }
+
+    record SuccessTestCase(String base64, String base32768) {}
+}